@@ -0,0 +1,300 @@
+package io.simplejpa.processor;
+
+import io.simplejpa.annotation.Cacheable;
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.DynamicUpdate;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.GeneratedValue;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Immutable;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.metadata.GeneratedEntityMetadata;
+import io.simplejpa.metadata.IdGenerationMetadata;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @Entity 마다 GeneratedEntityMetadata 구현 클래스를 생성한다.
+ * 매핑 규칙은 런타임의 mapping.AnnotationProcessor 와 같고, 생성할 수 없는 엔티티(@Id 누락, private 클래스 등)는
+ * 건너뛰어 런타임에 reflection 으로 분석하게 둔다. (오류 메시지도 런타임과 같게 유지)
+ */
+@SupportedAnnotationTypes("io.simplejpa.annotation.Entity")
+public class EntityMetadataProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Entity.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                processEntity((TypeElement) element);
+            }
+        }
+        return false; // 다른 processor 도 @Entity 를 볼 수 있게 한다
+    }
+
+    private void processEntity(TypeElement entityType) {
+        if (!isAccessibleFromPackage(entityType)) {
+            note(entityType, "private entity class, using reflection metadata");
+            return;
+        }
+        if (!hasDefaultConstructor(entityType)) {
+            note(entityType, "entity has no default constructor, using reflection metadata");
+            return;
+        }
+        if (declaresStaticField(entityType)) {
+            note(entityType, "entity declares static fields, using reflection metadata");
+            return;
+        }
+        List<VariableElement> idFields = new ArrayList<>();
+        for (VariableElement field : persistentFields(entityType)) {
+            if (field.getAnnotation(Id.class) != null) {
+                idFields.add(field);
+            }
+        }
+        if (idFields.size() != 1) {
+            note(entityType, "entity must have exactly one @Id field, using reflection metadata");
+            return;
+        }
+
+        EntityModel model = createModel(entityType, idFields.get(0));
+        writeSource(entityType, model);
+    }
+
+    private EntityModel createModel(TypeElement entityType, VariableElement idField) {
+        String tableName = extractTableName(entityType);
+        List<FieldModel> attributes = new ArrayList<>();
+        for (VariableElement field : persistentFields(entityType)) {
+            if (field != idField) {
+                attributes.add(createFieldModel(entityType, field));
+            }
+        }
+        Table table = entityType.getAnnotation(Table.class);
+        String binaryName = processingEnv.getElementUtils().getBinaryName(entityType).toString();
+        String generatedClassName = GeneratedEntityMetadata.classNameOf(binaryName);
+
+        return new EntityModel(
+                processingEnv.getElementUtils().getPackageOf(entityType).getQualifiedName().toString(),
+                generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1),
+                entityType.getQualifiedName().toString(),
+                entityType.getSimpleName().toString(),
+                tableName,
+                table == null ? "" : table.schema(),
+                table == null ? "" : table.catalog(),
+                createFieldModel(entityType, idField),
+                extractIdGeneration(idField, tableName),
+                attributes,
+                hasAccessibleDefaultConstructor(entityType),
+                entityType.getAnnotation(DynamicUpdate.class) != null,
+                entityType.getAnnotation(Immutable.class) != null,
+                entityType.getAnnotation(Cacheable.class) != null
+        );
+    }
+
+    private List<VariableElement> persistentFields(TypeElement entityType) {
+        return ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .toList();
+    }
+
+    private String extractTableName(TypeElement entityType) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            return table.name();
+        }
+        return entityType.getSimpleName().toString();
+    }
+
+    private IdGenerationMetadata extractIdGeneration(VariableElement idField, String tableName) {
+        GeneratedValue generatedValue = idField.getAnnotation(GeneratedValue.class);
+        if (generatedValue == null) {
+            return IdGenerationMetadata.IDENTITY;
+        }
+        String sequenceName = generatedValue.sequenceName().isEmpty()
+                ? tableName + "_seq"
+                : generatedValue.sequenceName();
+        return new IdGenerationMetadata(
+                generatedValue.strategy(),
+                sequenceName,
+                generatedValue.table(),
+                generatedValue.allocationSize(),
+                generatedValue.optimizer()
+        );
+    }
+
+    private FieldModel createFieldModel(TypeElement entityType, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        boolean primitive = fieldType.getKind().isPrimitive();
+        String typeName = primitive
+                ? fieldType.toString()
+                : processingEnv.getTypeUtils().erasure(fieldType).toString();
+        String boxedName = primitive
+                ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) fieldType)
+                .getQualifiedName().toString()
+                : typeName;
+
+        String columnName = fieldName;
+        boolean nullable = true;
+        boolean unique = false;
+        int length = 255;
+        boolean insertable = true;
+        boolean updatable = true;
+        Column column = field.getAnnotation(Column.class);
+        if (column != null) {
+            if (!column.name().isEmpty()) {
+                columnName = column.name();
+            }
+            nullable = column.nullable();
+            unique = column.unique();
+            length = column.length();
+            insertable = column.insertable();
+            updatable = column.updatable();
+        }
+
+        String getterName = findGetter(entityType, field);
+        String setterName = findSetter(entityType, field);
+        FieldModel.AccessMode accessMode = FieldModel.AccessMode.REFLECTION;
+        if (!field.getModifiers().contains(Modifier.PRIVATE) && !field.getModifiers().contains(Modifier.FINAL)) {
+            accessMode = FieldModel.AccessMode.FIELD;
+        } else if (getterName != null && setterName != null) {
+            accessMode = FieldModel.AccessMode.PROPERTY;
+        }
+
+        return new FieldModel(
+                fieldName,
+                columnName,
+                typeName,
+                boxedName,
+                primitive,
+                accessMode,
+                getterName,
+                setterName,
+                nullable,
+                unique,
+                length,
+                insertable,
+                updatable
+        );
+    }
+
+    private String findGetter(TypeElement entityType, VariableElement field) {
+        String capitalized = capitalize(field.getSimpleName().toString());
+        List<String> candidates = field.asType().getKind() == TypeKind.BOOLEAN
+                ? List.of("is" + capitalized, "get" + capitalized)
+                : List.of("get" + capitalized);
+        for (ExecutableElement method : accessibleMethods(entityType)) {
+            if (candidates.contains(method.getSimpleName().toString())
+                    && method.getParameters().isEmpty()
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return method.getSimpleName().toString();
+            }
+        }
+        return null;
+    }
+
+    private String findSetter(TypeElement entityType, VariableElement field) {
+        String setterName = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : accessibleMethods(entityType)) {
+            if (method.getSimpleName().contentEquals(setterName)
+                    && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return setterName;
+            }
+        }
+        return null;
+    }
+
+    private List<ExecutableElement> accessibleMethods(TypeElement entityType) {
+        return ElementFilter.methodsIn(entityType.getEnclosedElements()).stream()
+                .filter(method -> !method.getModifiers().contains(Modifier.PRIVATE))
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .toList();
+    }
+
+    private boolean hasDefaultConstructor(TypeElement entityType) {
+        return ElementFilter.constructorsIn(entityType.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty());
+    }
+
+    // 런타임은 static 필드도 컬럼으로 매핑하므로 SQL 이 달라지지 않게 생성하지 않는다
+    private boolean declaresStaticField(TypeElement entityType) {
+        return ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .anyMatch(field -> field.getModifiers().contains(Modifier.STATIC));
+    }
+
+    private boolean hasAccessibleDefaultConstructor(TypeElement entityType) {
+        if (entityType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(entityType.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    // 생성 클래스는 같은 패키지에 만들어지므로 private 만 아니면 접근할 수 있다 (중첩 클래스는 non-static 도 불가)
+    private boolean isAccessibleFromPackage(TypeElement entityType) {
+        Element current = entityType;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if ((enclosing.getKind().isClass() || enclosing.getKind().isInterface())
+                    && !current.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    private void writeSource(TypeElement entityType, EntityModel model) {
+        String qualifiedName = model.packageName().isEmpty()
+                ? model.generatedSimpleName()
+                : model.packageName() + "." + model.generatedSimpleName();
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, entityType);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(new MetadataSourceWriter(model).write());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Failed to write generated metadata " + qualifiedName + ": " + e.getMessage(),
+                    entityType
+            );
+        }
+    }
+
+    private void note(TypeElement entityType, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, entityType);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,29 @@
+package io.simplejpa.processor;
+
+import io.simplejpa.metadata.IdGenerationMetadata;
+
+import java.util.List;
+
+/**
+ * 생성할 메타데이터 클래스 하나에 필요한 정보
+ *
+ * @param entityTypeName   소스에 쓸 엔티티 이름 (중첩 클래스는 Outer.Inner)
+ * @param instantiable     생성 클래스에서 기본 생성자를 바로 호출할 수 있는지
+ */
+record EntityModel(
+        String packageName,
+        String generatedSimpleName,
+        String entityTypeName,
+        String entityName,
+        String tableName,
+        String schemaName,
+        String catalogName,
+        FieldModel identifier,
+        IdGenerationMetadata generation,
+        List<FieldModel> attributes,
+        boolean instantiable,
+        boolean dynamicUpdate,
+        boolean immutable,
+        boolean cacheable
+) {
+}
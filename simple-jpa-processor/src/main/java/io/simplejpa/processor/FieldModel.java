@@ -0,0 +1,34 @@
+package io.simplejpa.processor;
+
+/**
+ * 엔티티 필드 하나의 매핑 정보
+ *
+ * @param typeName   소스에 쓸 타입 이름 (erasure), primitive 면 long 같은 이름 그대로
+ * @param boxedName  primitive 면 wrapper 타입 이름, 아니면 typeName 과 같다
+ * @param getterName PROPERTY 접근일 때만 사용
+ */
+record FieldModel(
+        String fieldName,
+        String columnName,
+        String typeName,
+        String boxedName,
+        boolean primitive,
+        AccessMode accessMode,
+        String getterName,
+        String setterName,
+        boolean nullable,
+        boolean unique,
+        int length,
+        boolean insertable,
+        boolean updatable
+) {
+    enum AccessMode {
+        FIELD, // 생성 클래스에서 필드에 바로 접근
+        PROPERTY, // getter, setter 호출
+        REFLECTION // private 필드, 런타임에 MethodHandle accessor 사용
+    }
+
+    String accessorClassName() {
+        return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1) + "Accessor";
+    }
+}
@@ -0,0 +1,307 @@
+package io.simplejpa.processor;
+
+import io.simplejpa.engine.sql.DeleteSqlGenerator;
+import io.simplejpa.engine.sql.EntitySqlPlan;
+import io.simplejpa.engine.sql.EntitySqlPlanGenerator;
+import io.simplejpa.engine.sql.InsertSqlGenerator;
+import io.simplejpa.engine.sql.ParameterCollector;
+import io.simplejpa.engine.sql.SelectSqlGenerator;
+import io.simplejpa.engine.sql.UpdateSqlGenerator;
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdGenerationMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EntityModel 로 GeneratedEntityMetadata 구현 소스를 만든다.
+ * CRUD SQL 은 런타임과 같은 EntitySqlPlanGenerator 로 만들어 상수로 넣는다.
+ */
+class MetadataSourceWriter {
+    private static final String INDENT = "    ";
+
+    private final EntityModel model;
+    private final StringBuilder source = new StringBuilder();
+
+    MetadataSourceWriter(EntityModel model) {
+        this.model = model;
+    }
+
+    String write() {
+        SqlPlanShape sqlPlan = createSqlPlan();
+
+        if (!model.packageName().isEmpty()) {
+            line(0, "package " + model.packageName() + ";");
+            line(0, "");
+        }
+        line(0, "import io.simplejpa.engine.sql.EntitySqlPlan;");
+        line(0, "import io.simplejpa.metadata.AttributeMetadata;");
+        line(0, "import io.simplejpa.metadata.EntityMetadata;");
+        line(0, "import io.simplejpa.metadata.GeneratedEntityMetadata;");
+        line(0, "import io.simplejpa.metadata.IdGenerationMetadata;");
+        line(0, "import io.simplejpa.metadata.IdentifierMetadata;");
+        line(0, "import io.simplejpa.metadata.accessor.AccessorFactory;");
+        line(0, "import io.simplejpa.metadata.accessor.PropertyAccessor;");
+        line(0, "");
+        line(0, "import java.util.List;");
+        line(0, "import javax.annotation.processing.Generated;");
+        line(0, "");
+        line(0, "@Generated(\"" + EntityMetadataProcessor.class.getName() + "\")");
+        line(0, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line(0, "public final class " + model.generatedSimpleName() + " implements GeneratedEntityMetadata {");
+        line(1, "public static final String TABLE_NAME = " + literal(model.tableName()) + ";");
+        line(1, "public static final String INSERT_SQL = " + literal(sqlPlan.plan().insertSql()) + ";");
+        line(1, "public static final String ASSIGNED_ID_INSERT_SQL = " + literal(sqlPlan.plan().assignedIdInsertSql()) + ";");
+        line(1, "public static final String UPDATE_SQL = " + literal(sqlPlan.plan().updateSql()) + ";");
+        line(1, "public static final String DELETE_SQL = " + literal(sqlPlan.plan().deleteSql()) + ";");
+        line(1, "public static final String FIND_BY_ID_SQL = " + literal(sqlPlan.plan().findByIdSql()) + ";");
+        line(0, "");
+        writeCreateMetadata();
+        line(0, "");
+        writeCreateSqlPlan(sqlPlan);
+        writeAccessor(model.identifier());
+        for (FieldModel attribute : model.attributes()) {
+            writeAccessor(attribute);
+        }
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeCreateMetadata() {
+        FieldModel identifier = model.identifier();
+        line(1, "@Override");
+        line(1, "public EntityMetadata createMetadata(AccessorFactory accessorFactory) {");
+        line(2, "return new EntityMetadata(");
+        line(4, model.entityTypeName() + ".class,");
+        line(4, literal(model.entityName()) + ",");
+        line(4, "TABLE_NAME,");
+        line(4, literal(model.schemaName()) + ",");
+        line(4, literal(model.catalogName()) + ",");
+        line(4, "new IdentifierMetadata(");
+        line(6, literal(identifier.fieldName()) + ",");
+        line(6, literal(identifier.columnName()) + ",");
+        line(6, identifier.typeName() + ".class,");
+        line(6, "null,");
+        line(6, accessorExpression(identifier) + ",");
+        line(6, generationExpression());
+        line(4, "),");
+        line(4, "List.of(");
+        List<FieldModel> attributes = model.attributes();
+        for (int i = 0; i < attributes.size(); i++) {
+            FieldModel attribute = attributes.get(i);
+            line(6, "new AttributeMetadata("
+                    + literal(attribute.fieldName()) + ", "
+                    + literal(attribute.columnName()) + ", "
+                    + attribute.typeName() + ".class, "
+                    + "null, "
+                    + accessorExpression(attribute) + ", "
+                    + attribute.nullable() + ", "
+                    + attribute.unique() + ", "
+                    + attribute.length() + ", "
+                    + attribute.insertable() + ", "
+                    + attribute.updatable() + ")"
+                    + (i < attributes.size() - 1 ? "," : ""));
+        }
+        line(4, "),");
+        line(4, (model.instantiable()
+                ? model.entityTypeName() + "::new"
+                : "accessorFactory.createInstantiator(" + model.entityTypeName() + ".class)") + ",");
+        line(4, model.dynamicUpdate() + ",");
+        line(4, model.immutable() + ",");
+        line(4, String.valueOf(model.cacheable()));
+        line(2, ");");
+        line(1, "}");
+    }
+
+    private String generationExpression() {
+        IdGenerationMetadata generation = model.generation();
+        if (generation.equals(IdGenerationMetadata.IDENTITY)) {
+            return "IdGenerationMetadata.IDENTITY";
+        }
+        return "new IdGenerationMetadata("
+                + "io.simplejpa.annotation.GenerationType." + generation.strategy().name() + ", "
+                + literal(generation.sequenceName()) + ", "
+                + literal(generation.table()) + ", "
+                + generation.allocationSize() + ", "
+                + "io.simplejpa.annotation.IdOptimizer." + generation.optimizer().name() + ")";
+    }
+
+    private void writeCreateSqlPlan(SqlPlanShape sqlPlan) {
+        line(1, "@Override");
+        line(1, "public EntitySqlPlan createSqlPlan(EntityMetadata metadata) {");
+        line(2, "List<AttributeMetadata> attributes = metadata.getAttributeMetadatas();");
+        line(2, "return new EntitySqlPlan(");
+        line(4, "metadata,");
+        line(4, "INSERT_SQL,");
+        line(4, "ASSIGNED_ID_INSERT_SQL,");
+        line(4, "UPDATE_SQL,");
+        line(4, "DELETE_SQL,");
+        line(4, "FIND_BY_ID_SQL,");
+        line(4, attributeList(sqlPlan.insertIndexes()) + ",");
+        line(4, attributeList(sqlPlan.updateIndexes()));
+        line(2, ");");
+        line(1, "}");
+    }
+
+    private String attributeList(List<Integer> indexes) {
+        List<String> elements = new ArrayList<>();
+        for (int index : indexes) {
+            elements.add("attributes.get(" + index + ")");
+        }
+        return "List.of(" + String.join(", ", elements) + ")";
+    }
+
+    private String accessorExpression(FieldModel field) {
+        if (field.accessMode() == FieldModel.AccessMode.REFLECTION) {
+            return "accessorFactory.createPropertyAccessor(" + model.entityTypeName() + ".class, "
+                    + literal(field.fieldName()) + ")";
+        }
+        return "new " + field.accessorClassName() + "()";
+    }
+
+    // PropertyAccessor 구현, primitive 는 타입별 메서드도 override 해서 boxing 을 피한다
+    private void writeAccessor(FieldModel field) {
+        if (field.accessMode() == FieldModel.AccessMode.REFLECTION) {
+            return;
+        }
+        String target = "((" + model.entityTypeName() + ") entity)";
+        line(0, "");
+        line(1, "private static final class " + field.accessorClassName() + " implements PropertyAccessor {");
+        line(2, "@Override");
+        line(2, "public Object get(Object entity) {");
+        line(3, "return " + read(field, target) + ";");
+        line(2, "}");
+        line(0, "");
+        line(2, "@Override");
+        line(2, "public void set(Object entity, Object value) {");
+        if (field.primitive()) {
+            line(3, "if (value != null) { // primitive 필드는 기본값 유지");
+            line(4, write(field, target, "(" + field.boxedName() + ") value") + ";");
+            line(3, "}");
+        } else {
+            line(3, write(field, target, "(" + field.typeName() + ") value") + ";");
+        }
+        line(2, "}");
+        String typedName = typedAccessorName(field.typeName());
+        if (typedName != null) {
+            line(0, "");
+            line(2, "@Override");
+            line(2, "public " + field.typeName() + " get" + typedName + "(Object entity) {");
+            line(3, "return " + read(field, target) + ";");
+            line(2, "}");
+            line(0, "");
+            line(2, "@Override");
+            line(2, "public void set" + typedName + "(Object entity, " + field.typeName() + " value) {");
+            line(3, write(field, target, "value") + ";");
+            line(2, "}");
+        }
+        line(1, "}");
+    }
+
+    private String read(FieldModel field, String target) {
+        if (field.accessMode() == FieldModel.AccessMode.PROPERTY) {
+            return target + "." + field.getterName() + "()";
+        }
+        return target + "." + field.fieldName();
+    }
+
+    private String write(FieldModel field, String target, String value) {
+        if (field.accessMode() == FieldModel.AccessMode.PROPERTY) {
+            return target + "." + field.setterName() + "(" + value + ")";
+        }
+        return target + "." + field.fieldName() + " = " + value;
+    }
+
+    // PropertyAccessor 가 타입별 메서드를 제공하는 primitive 만
+    private String typedAccessorName(String typeName) {
+        return switch (typeName) {
+            case "long" -> "Long";
+            case "int" -> "Int";
+            case "double" -> "Double";
+            case "boolean" -> "Boolean";
+            default -> null;
+        };
+    }
+
+    // SQL 생성에는 이름과 insertable/updatable 만 필요하므로 타입과 accessor 없이 메타데이터를 만든다
+    private SqlPlanShape createSqlPlan() {
+        FieldModel identifier = model.identifier();
+        List<AttributeMetadata> attributes = new ArrayList<>();
+        for (FieldModel attribute : model.attributes()) {
+            attributes.add(new AttributeMetadata(
+                    attribute.fieldName(),
+                    attribute.columnName(),
+                    Object.class,
+                    null,
+                    null,
+                    attribute.nullable(),
+                    attribute.unique(),
+                    attribute.length(),
+                    attribute.insertable(),
+                    attribute.updatable()
+            ));
+        }
+        EntityMetadata metadata = new EntityMetadata(
+                null,
+                model.entityName(),
+                model.tableName(),
+                model.schemaName(),
+                model.catalogName(),
+                new IdentifierMetadata(
+                        identifier.fieldName(),
+                        identifier.columnName(),
+                        Object.class,
+                        null,
+                        null,
+                        model.generation()
+                ),
+                attributes,
+                null,
+                model.dynamicUpdate(),
+                model.immutable(),
+                model.cacheable()
+        );
+        EntitySqlPlan plan = new EntitySqlPlanGenerator(
+                new InsertSqlGenerator(new ParameterCollector()),
+                new UpdateSqlGenerator(new ParameterCollector()),
+                new DeleteSqlGenerator(),
+                new SelectSqlGenerator()
+        ).generate(metadata);
+        return new SqlPlanShape(plan, indexesOf(attributes, plan.insertAttributes()), indexesOf(attributes, plan.updateAttributes()));
+    }
+
+    private List<Integer> indexesOf(List<AttributeMetadata> attributes, List<AttributeMetadata> selected) {
+        List<Integer> indexes = new ArrayList<>();
+        for (AttributeMetadata attribute : selected) {
+            indexes.add(attributes.indexOf(attribute));
+        }
+        return indexes;
+    }
+
+    private void line(int depth, String text) {
+        if (!text.isEmpty()) {
+            source.append(INDENT.repeat(depth)).append(text);
+        }
+        source.append('\n');
+    }
+
+    private static String literal(String value) {
+        StringBuilder escaped = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    private record SqlPlanShape(EntitySqlPlan plan, List<Integer> insertIndexes, List<Integer> updateIndexes) {
+    }
+}
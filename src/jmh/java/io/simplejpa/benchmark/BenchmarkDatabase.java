@@ -0,0 +1,65 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.core.EntityManagerFactory;
+import io.simplejpa.core.Persistence;
+import io.simplejpa.core.PersistenceConfiguration;
+import io.simplejpa.engine.connection.ConnectionPoolConfiguration;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * benchmark 마다 독립된 H2 in-memory DB 와 factory 를 만든다.
+ */
+final class BenchmarkDatabase {
+    private BenchmarkDatabase() {
+    }
+
+    static String url(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    static EntityManagerFactory createFactory(String name, int jdbcBatchSize) {
+        return Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(url(name))
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(BenchmarkItem.class)
+                .connectionPool(ConnectionPoolConfiguration.builder()
+                        .minSize(1)
+                        .maxSize(4)
+                        .build())
+                .jdbcBatchSize(jdbcBatchSize)
+                .statementCacheSize(64)
+                .build());
+    }
+
+    static void recreateTable(String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url(name), "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_items");
+            statement.execute("CREATE TABLE bench_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), price INT)");
+        }
+    }
+
+    static void insertRows(String name, int rowCount) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url(name), "sa", "");
+             PreparedStatement pstmt = connection.prepareStatement("INSERT INTO bench_items (name, price) VALUES (?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < rowCount; i++) {
+                pstmt.setString(1, "item-" + i);
+                pstmt.setInt(2, i);
+                pstmt.addBatch();
+                if (i % 1000 == 999) {
+                    pstmt.executeBatch();
+                }
+            }
+            pstmt.executeBatch();
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+
+@Entity
+@Table(name = "bench_items")
+public class BenchmarkItem {
+    @Id
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "price")
+    private Integer price;
+
+    public BenchmarkItem() {
+    }
+
+    public BenchmarkItem(String name, Integer price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setPrice(Integer price) {
+        this.price = price;
+    }
+}
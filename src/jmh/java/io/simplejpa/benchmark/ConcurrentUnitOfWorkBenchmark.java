@@ -0,0 +1,70 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 factory 를 여러 스레드가 공유할 때 unit of work 처리량, 스레드 수별 비교
+ * (connection pool 크기는 BenchmarkDatabase 의 4)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentUnitOfWorkBenchmark {
+    private static final String DATABASE = "concurrent-benchmark";
+    private static final int ENTITIES_PER_UNIT = 20;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.recreateTable(DATABASE);
+        entityManagerFactory = BenchmarkDatabase.createFactory(DATABASE, ENTITIES_PER_UNIT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void singleThread() {
+        persistUnitOfWork();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void fourThreads() {
+        persistUnitOfWork();
+    }
+
+    private void persistUnitOfWork() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ENTITIES_PER_UNIT; i++) {
+            entityManager.persist(new BenchmarkItem("item-" + i, i));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+}
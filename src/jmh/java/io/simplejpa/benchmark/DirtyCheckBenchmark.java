@@ -0,0 +1,57 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.cache.ActionQueue;
+import io.simplejpa.cache.PersistenceContext;
+import io.simplejpa.metadata.MetadataRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 없는 flush 에서 관리 엔티티 수에 따른 dirty check 비용
+ * 실행할 action 이 없으므로 connection 없이 flush 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirtyCheckBenchmark {
+    @Param({"1000", "100000"})
+    private int managedEntities;
+
+    private PersistenceContext persistenceContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(BenchmarkItem.class);
+        persistenceContext = new PersistenceContext(new ActionQueue(null, null, null, 0), metadataRegistry);
+
+        Field idField = BenchmarkItem.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        for (long id = 1; id <= managedEntities; id++) {
+            BenchmarkItem item = new BenchmarkItem("item-" + id, (int) id);
+            idField.set(item, id);
+            persistenceContext.addLoadedEntity(item);
+        }
+    }
+
+    @Benchmark
+    public void flushWithoutChanges() {
+        persistenceContext.flush(null);
+    }
+}
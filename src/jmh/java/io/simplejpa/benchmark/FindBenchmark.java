@@ -0,0 +1,71 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * find: 1차 캐시 hit 과 DB 조회(miss)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindBenchmark {
+    private static final String DATABASE = "find-benchmark";
+    private static final int ROW_COUNT = 1_000;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.recreateTable(DATABASE);
+        BenchmarkDatabase.insertRows(DATABASE, ROW_COUNT);
+        entityManagerFactory = BenchmarkDatabase.createFactory(DATABASE, 0);
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.find(BenchmarkItem.class, 1L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public BenchmarkItem findHit() {
+        return entityManager.find(BenchmarkItem.class, 1L);
+    }
+
+    // EntityManager 를 새로 만들어 매번 DB 에서 읽는다
+    @Benchmark
+    public BenchmarkItem findMiss() {
+        nextId = nextId % ROW_COUNT + 1;
+        EntityManager missEntityManager = entityManagerFactory.createEntityManager();
+        missEntityManager.getTransaction().begin();
+        BenchmarkItem item = missEntityManager.find(BenchmarkItem.class, nextId);
+        missEntityManager.getTransaction().commit();
+        missEntityManager.close();
+        return item;
+    }
+}
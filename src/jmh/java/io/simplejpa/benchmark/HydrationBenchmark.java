@@ -0,0 +1,58 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.engine.jdbc.EntityResultSetExtractor;
+import io.simplejpa.engine.jdbc.RowMapperCache;
+import io.simplejpa.metadata.MetadataRegistry;
+import io.simplejpa.util.TypeConverter;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet row 하나를 엔티티로 만드는 비용 (DB 왕복 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HydrationBenchmark {
+    private SimpleResultSet resultSet;
+    private EntityResultSetExtractor<BenchmarkItem> extractor;
+
+    @Setup
+    public void setUp() {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(BenchmarkItem.class);
+        extractor = new EntityResultSetExtractor<>(
+                metadataRegistry.getMetadata(BenchmarkItem.class),
+                new RowMapperCache(new TypeConverter())
+        );
+
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("ID", Types.BIGINT, 19, 0);
+        resultSet.addColumn("NAME", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("PRICE", Types.INTEGER, 10, 0);
+        resultSet.addRow(1L, "item-1", 1000);
+    }
+
+    @Benchmark
+    public BenchmarkItem hydrate() throws SQLException {
+        resultSet.beforeFirst();
+        return extractor.extractData(resultSet);
+    }
+}
@@ -0,0 +1,55 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.metadata.MetadataRegistry;
+import io.simplejpa.query.jpql.JpqlParser;
+import io.simplejpa.query.jpql.QueryTranslator;
+import io.simplejpa.query.jpql.TranslatedQuery;
+import io.simplejpa.query.jpql.ast.SelectStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * query plan cache 를 거치지 않은 JPQL 파싱, SQL 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpqlBenchmark {
+    private static final String JPQL = "SELECT i FROM BenchmarkItem i WHERE i.name = :name AND i.price > :price";
+
+    private JpqlParser jpqlParser;
+    private QueryTranslator queryTranslator;
+    private SelectStatement parsed;
+
+    @Setup
+    public void setUp() {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(BenchmarkItem.class);
+        jpqlParser = new JpqlParser();
+        queryTranslator = new QueryTranslator(metadataRegistry);
+        parsed = jpqlParser.parse(JPQL);
+    }
+
+    @Benchmark
+    public SelectStatement parse() {
+        return jpqlParser.parse(JPQL);
+    }
+
+    @Benchmark
+    public TranslatedQuery translate() {
+        return queryTranslator.translate(parsed);
+    }
+}
@@ -0,0 +1,61 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * persist + commit(flush) 비용, JDBC batch 크기별 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistBenchmark {
+    private static final String DATABASE = "persist-benchmark";
+    private static final int ENTITIES_PER_TRANSACTION = 100;
+
+    @Param({"1", "20", "100"})
+    private int jdbcBatchSize;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.recreateTable(DATABASE);
+        entityManagerFactory = BenchmarkDatabase.createFactory(DATABASE, jdbcBatchSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public void persistAndFlush() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ENTITIES_PER_TRANSACTION; i++) {
+            entityManager.persist(new BenchmarkItem("item-" + i, i));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+}
@@ -0,0 +1,63 @@
+package io.simplejpa.benchmark;
+
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getResultList 로 row 수별 조회 + 엔티티 등록 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+    private static final String DATABASE = "query-benchmark";
+
+    @Param({"10", "1000", "100000"})
+    private int rowCount;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.recreateTable(DATABASE);
+        BenchmarkDatabase.insertRows(DATABASE, rowCount);
+        entityManagerFactory = BenchmarkDatabase.createFactory(DATABASE, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<BenchmarkItem> getResultList() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        List<BenchmarkItem> items = entityManager
+                .createQuery("SELECT i FROM BenchmarkItem i", BenchmarkItem.class)
+                .getResultList();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+        return items;
+    }
+}
@@ -0,0 +1,13 @@
+package io.simplejpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * 2차 캐시에 저장할 엔티티
+ */
+@Target(ElementType.TYPE)
+@Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+}
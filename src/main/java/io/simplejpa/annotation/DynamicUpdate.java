@@ -0,0 +1,13 @@
+package io.simplejpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * UPDATE 시 변경된 컬럼만 SET 절에 포함한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+public @interface DynamicUpdate {
+}
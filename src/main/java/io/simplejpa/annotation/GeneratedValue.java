@@ -0,0 +1,25 @@
+package io.simplejpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * id 생성 전략, 없으면 IDENTITY (id 를 직접 넣고 persist 하면 그 값으로 INSERT 한다)
+ * SEQUENCE, TABLE 은 persist 시점에 id 를 채우므로 INSERT 를 batch 로 실행할 수 있다.
+ */
+@Target(ElementType.FIELD)
+@Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+public @interface GeneratedValue {
+    GenerationType strategy() default GenerationType.IDENTITY;
+
+    // 비어 있으면 '{테이블명}_seq'
+    String sequenceName() default "";
+
+    // TABLE 전략에서 사용할 테이블 (sequence_name, next_val 컬럼)
+    String table() default "simplejpa_sequences";
+
+    int allocationSize() default 50;
+
+    IdOptimizer optimizer() default IdOptimizer.POOLED;
+}
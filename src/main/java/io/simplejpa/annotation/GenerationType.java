@@ -0,0 +1,7 @@
+package io.simplejpa.annotation;
+
+public enum GenerationType {
+    IDENTITY, // DB 가 INSERT 시점에 생성, generated key 로 다시 읽는다
+    SEQUENCE, // DB sequence 에서 allocationSize 만큼 미리 할당
+    TABLE // 별도 테이블에서 allocationSize 만큼 미리 할당
+}
@@ -0,0 +1,6 @@
+package io.simplejpa.annotation;
+
+public enum IdOptimizer {
+    POOLED, // sequence 값이 블록의 시작, sequence 는 INCREMENT BY allocationSize 여야 한다
+    HILO // sequence 값 x allocationSize 가 블록의 시작, sequence 는 1 씩 증가한다
+}
@@ -0,0 +1,13 @@
+package io.simplejpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * 변경되지 않는 엔티티, snapshot 과 dirty check 를 하지 않는다.
+ */
+@Target(ElementType.TYPE)
+@Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+public @interface Immutable {
+}
@@ -7,30 +7,50 @@ import io.simplejpa.cache.action.UpdateAction;
 import io.simplejpa.persister.EntityDeleter;
 import io.simplejpa.persister.EntityPersister;
 import io.simplejpa.persister.EntityUpdater;
+import io.simplejpa.stat.Statistics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Slf4j
 public class ActionQueue {
     private final List<EntityAction> insertions = new ArrayList<>();
-    private final List<EntityAction> updates = new ArrayList<>();
+    private final List<UpdateAction> updates = new ArrayList<>();
     private final List<EntityAction> deletions = new ArrayList<>();
 
     private final EntityPersister entityPersister;
     private final EntityUpdater entityUpdater;
     private final EntityDeleter entityDeleter;
+    private final int batchSize;
+    private final Statistics statistics;
 
     public ActionQueue(
             EntityPersister entityPersister,
             EntityUpdater entityUpdater,
-            EntityDeleter entityDeleter
+            EntityDeleter entityDeleter,
+            int batchSize
+    ) {
+        this(entityPersister, entityUpdater, entityDeleter, batchSize, new Statistics(false));
+    }
+
+    public ActionQueue(
+            EntityPersister entityPersister,
+            EntityUpdater entityUpdater,
+            EntityDeleter entityDeleter,
+            int batchSize,
+            Statistics statistics
     ) {
         this.entityPersister = entityPersister;
         this.entityUpdater = entityUpdater;
         this.entityDeleter = entityDeleter;
+        this.batchSize = batchSize;
+        this.statistics = statistics;
     }
 
     public void addInsertion(Object entity) {
@@ -46,18 +66,61 @@ public class ActionQueue {
     }
 
     public void executeActions(Connection connection) {
-        executeList(insertions, connection);
-        executeList(updates, connection);
-        executeList(deletions, connection);
+        if (isBatchEnabled()) {
+            executeBatches(insertions, connection, EntityAction::getEntity, entityPersister::insertAll);
+            executeBatches(updates, connection, UpdateAction::getEntityEntry, entityUpdater::updateAll);
+            executeBatches(deletions, connection, EntityAction::getEntity, entityDeleter::deleteAll);
+        } else {
+            executeList(insertions, connection);
+            executeList(updates, connection);
+            executeList(deletions, connection);
+        }
+        statistics.recordEntityInserts(insertions.size());
+        statistics.recordEntityUpdates(updates.size());
+        statistics.recordEntityDeletes(deletions.size());
         clear();
     }
 
-    private void executeList(List<EntityAction> entityActions, Connection connection) {
+    private boolean isBatchEnabled() {
+        return batchSize > 1;
+    }
+
+    private void executeList(List<? extends EntityAction> entityActions, Connection connection) {
         for (EntityAction action : entityActions) {
             action.execute(connection);
+            action.afterExecute();
         }
     }
 
+    // 엔티티 타입(= 같은 SQL) 별로 묶어서 batchSize 단위로 실행
+    private <A extends EntityAction, T> void executeBatches(
+            List<A> entityActions,
+            Connection connection,
+            Function<A, T> batchArgument,
+            BiConsumer<Connection, List<T>> batchExecutor
+    ) {
+        for (List<A> sameTypeActions : groupByEntityType(entityActions).values()) {
+            for (int from = 0; from < sameTypeActions.size(); from += batchSize) {
+                List<A> chunk = sameTypeActions.subList(from, Math.min(from + batchSize, sameTypeActions.size()));
+                batchExecutor.accept(connection, chunk.stream().map(batchArgument).toList());
+                chunk.forEach(EntityAction::afterExecute);
+                log.debug("batch executed: type={}, size={}", chunk.get(0).getEntity().getClass().getSimpleName(), chunk.size());
+            }
+        }
+    }
+
+    private <A extends EntityAction> Map<Class<?>, List<A>> groupByEntityType(List<A> entityActions) {
+        Map<Class<?>, List<A>> grouped = new LinkedHashMap<>();
+        for (A action : entityActions) {
+            grouped.computeIfAbsent(action.getEntity().getClass(), type -> new ArrayList<>()).add(action);
+        }
+        return grouped;
+    }
+
+    public int size() {
+        return insertions.size() + updates.size() + deletions.size();
+    }
+
     public void clear() {
         insertions.clear();
         updates.clear();
@@ -4,13 +4,14 @@ import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 @Getter
 public class EntityEntry {
     private final Object entity;
     private final Object[] stateSnapShot;
+    private final BitSet dirtyAttributes; // 마지막 dirty check 결과, flush 마다 재사용
     private EntityStatus status;
 
     public EntityEntry(
@@ -19,31 +20,48 @@ public class EntityEntry {
     ) {
         this.entity = entity;
         this.stateSnapShot = stateSnapShot;
+        this.dirtyAttributes = new BitSet(stateSnapShot.length);
         this.status = EntityStatus.MANAGED;
     }
 
+    private EntityEntry(Object entity) {
+        this.entity = entity;
+        this.stateSnapShot = null;
+        this.dirtyAttributes = null;
+        this.status = EntityStatus.READ_ONLY;
+    }
+
+    // 읽기 전용 엔티티는 snapshot 을 만들지 않는다
+    public static EntityEntry readOnly(Object entity) {
+        return new EntityEntry(entity);
+    }
+
+    /**
+     * snapshot 과 속성 단위로 비교해 dirtyAttributes 를 다시 채운다. (새 배열을 만들지 않는다)
+     * index 는 EntityMetadata#getAttributeMetadatas 순서, updatable 속성만 대상이다.
+     */
     public boolean isModified(EntityMetadata metadata) {
         if (!isManaged()) {
             return false;
         }
-        Object[] currentState = extractCurrentState(metadata);
-        return !Arrays.equals(stateSnapShot, currentState);
-    }
-
-    private Object[] extractCurrentState(EntityMetadata metadata) {
+        dirtyAttributes.clear();
         List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
-        Object[] state = new Object[attributeMetadatas.size()];
         for (int i = 0; i < attributeMetadatas.size(); i++) {
-            state[i] = attributeMetadatas.get(i).getValue(entity);
+            AttributeMetadata attributeMetadata = attributeMetadatas.get(i);
+            if (attributeMetadata.isUpdatable() && !attributeMetadata.hasSameValue(entity, stateSnapShot[i])) {
+                dirtyAttributes.set(i);
+            }
         }
-        return state;
+        return !dirtyAttributes.isEmpty();
     }
 
-    public void updateSnapShot(Object[] newSnapshot) {
-        if (newSnapshot.length != this.stateSnapShot.length) {
-            throw new IllegalArgumentException("Snapshot size mismatch");
+    // UPDATE 성공 후 변경된 slot 만 snapshot 에 반영
+    public void updateSnapShot(EntityMetadata metadata) {
+        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
+        for (int i = dirtyAttributes.nextSetBit(0); i >= 0; i = dirtyAttributes.nextSetBit(i + 1)) {
+            stateSnapShot[i] = attributeMetadatas.get(i).getValue(entity);
         }
-        System.arraycopy(newSnapshot, 0, this.stateSnapShot, 0, newSnapshot.length);
+        dirtyAttributes.clear();
     }
 
     public void markAsRemoved() {
@@ -62,6 +80,10 @@ public class EntityEntry {
         return this.status == EntityStatus.REMOVED;
     }
 
+    public boolean isReadOnly() {
+        return this.status == EntityStatus.READ_ONLY;
+    }
+
     public boolean isDetached() {
         return this.status == EntityStatus.DETACHED;
     }
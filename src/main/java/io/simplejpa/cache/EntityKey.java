@@ -21,6 +21,14 @@ public class EntityKey {
         }
     }
 
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -6,7 +6,8 @@ import lombok.Getter;
 public enum EntityStatus {
     MANAGED("영속 상태"),
     REMOVED("삭제 예정"),
-    DETACHED("준영속 상태");
+    DETACHED("준영속 상태"),
+    READ_ONLY("읽기 전용");
 
     private final String description;
 
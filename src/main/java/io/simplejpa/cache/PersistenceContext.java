@@ -1,15 +1,23 @@
 package io.simplejpa.cache;
 
+import io.simplejpa.cache.secondlevel.QueryResultCache;
+import io.simplejpa.cache.secondlevel.SecondLevelCache;
+import io.simplejpa.engine.id.IdentifierGeneratorRegistry;
+import io.simplejpa.jfr.FlushEvent;
 import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
 import io.simplejpa.metadata.MetadataRegistry;
 import lombok.Getter;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Getter
 public class PersistenceContext {
@@ -17,26 +25,74 @@ public class PersistenceContext {
     private final Map<Object, EntityEntry> entityEntries = new IdentityHashMap<>(); // 객체 동일성 비교 필요
     private final ActionQueue actionQueue;
     private final MetadataRegistry metadataRegistry;
+    private final SecondLevelCache secondLevelCache;
+    private final QueryResultCache queryResultCache;
+    private final IdentifierGeneratorRegistry identifierGeneratorRegistry;
+    // IDENTITY 엔티티는 INSERT 후에야 id 를 알 수 있으므로 flush 후 1차 캐시에 등록한다
+    private final List<Object> pendingIdentityInserts = new ArrayList<>();
+    // flush 한 UPDATE/DELETE 대상, commit 후 2차 캐시에서 한 번 더 제거한다
+    private final Set<EntityKey> pendingInvalidations = new HashSet<>();
+    // INSERT/UPDATE/DELETE 한 테이블, flush 와 commit 후에 query 결과 cache 를 무효화한다
+    private final Set<String> pendingTableInvalidations = new HashSet<>();
 
     public PersistenceContext(ActionQueue actionQueue, MetadataRegistry metadataRegistry) {
+        this(
+                actionQueue,
+                metadataRegistry,
+                new SecondLevelCache(null),
+                new QueryResultCache(0),
+                new IdentifierGeneratorRegistry(null, null)
+        );
+    }
+
+    public PersistenceContext(
+            ActionQueue actionQueue,
+            MetadataRegistry metadataRegistry,
+            SecondLevelCache secondLevelCache,
+            QueryResultCache queryResultCache,
+            IdentifierGeneratorRegistry identifierGeneratorRegistry
+    ) {
         this.actionQueue = actionQueue;
         this.metadataRegistry = metadataRegistry;
+        this.secondLevelCache = secondLevelCache;
+        this.queryResultCache = queryResultCache;
+        this.identifierGeneratorRegistry = identifierGeneratorRegistry;
     }
 
-    public void addEntity(Object entity) {
-        addFirstCacheAndSnapShot(entity);
+    public void addEntity(Object entity, Connection connection) {
+        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
+        identifierGeneratorRegistry.assignIdentifier(metadata, entity, connection);
+        // IDENTITY 로 INSERT 후에 id 가 정해지면 flush 뒤에 1차 캐시에 등록한다 (primitive id 의 0 도 미할당)
+        addFirstCacheAndSnapShot(entity, false, !metadata.getIdentifierMetadata().isAssigned(entity));
         actionQueue.addInsertion(entity);
+        collectTableInvalidation(entity);
+    }
+
+    // DB 에서 조회한 엔티티는 INSERT 없이 영속 상태로만 등록한다
+    public void addLoadedEntity(Object entity) {
+        addLoadedEntity(entity, false);
+    }
+
+    public void addLoadedEntity(Object entity, boolean readOnly) {
+        addFirstCacheAndSnapShot(entity, readOnly, false);
     }
 
-    private void addFirstCacheAndSnapShot(Object entity) {
+    private void addFirstCacheAndSnapShot(Object entity, boolean readOnly, boolean idGeneratedOnInsert) {
         Class<?> entityClass = entity.getClass();
         EntityMetadata metadata = metadataRegistry.getMetadata(entityClass);
-        Object idValue = metadata.getIdentifierMetadata().getValue(entity);
-        firstLevelCache.put(new EntityKey(entityClass, idValue), entity);
-        entityEntries.put(entity, createEntityEntry(entity, metadata));
+        if (idGeneratedOnInsert) {
+            pendingIdentityInserts.add(entity);
+        } else {
+            Object idValue = metadata.getIdentifierMetadata().getValue(entity);
+            firstLevelCache.put(new EntityKey(entityClass, idValue), entity);
+        }
+        entityEntries.put(entity, createEntityEntry(entity, metadata, readOnly));
     }
 
-    private EntityEntry createEntityEntry(Object entity, EntityMetadata metadata) {
+    private EntityEntry createEntityEntry(Object entity, EntityMetadata metadata, boolean readOnly) {
+        if (readOnly || metadata.isImmutable()) {
+            return EntityEntry.readOnly(entity);
+        }
         List<AttributeMetadata> metadataAttributeMetadatas = metadata.getAttributeMetadatas();
         Object[] stateSnapShot = new Object[metadataAttributeMetadatas.size()];
         for (int i = 0; i < metadataAttributeMetadatas.size(); i++) {
@@ -59,6 +115,7 @@ public class PersistenceContext {
 
         entry.markAsRemoved();
         actionQueue.addDeletion(entity);
+        collectInvalidation(entity);
     }
 
     private void validateRemovable(EntityEntry entry) {
@@ -66,7 +123,7 @@ public class PersistenceContext {
             throw new IllegalArgumentException("Entity is not managed by the persistence context");
         }
 
-        if (!entry.isManaged()) {
+        if (!entry.isManaged() && !entry.isReadOnly()) {
             throw new IllegalStateException("Entity is in detached state and cannot be removed");
         }
 
@@ -76,16 +133,73 @@ public class PersistenceContext {
     }
 
     public void flush(Connection connection) {
+        FlushEvent event = new FlushEvent();
+        event.begin();
+        int entitiesDirtyChecked = entityEntries.size();
         detectDirtyEntities();
+        int actionsExecuted = actionQueue.size();
         actionQueue.executeActions(connection);
+        // 다른 EntityManager 가 변경 전 값을 읽지 않도록 flush 시점에 먼저 제거
+        secondLevelCache.evictAll(pendingInvalidations);
+        queryResultCache.invalidate(pendingTableInvalidations);
+        registerIdentityInserts();
         removeEntityFromFirstCacheAndEntries();
+        event.end();
+        if (event.shouldCommit()) {
+            event.entitiesDirtyChecked = entitiesDirtyChecked;
+            event.actionsExecuted = actionsExecuted;
+            event.commit();
+        }
+    }
+
+    private void registerIdentityInserts() {
+        for (Object entity : pendingIdentityInserts) {
+            IdentifierMetadata identifierMetadata = metadataRegistry.getMetadata(entity.getClass()).getIdentifierMetadata();
+            if (identifierMetadata.isAssigned(entity)) {
+                firstLevelCache.put(new EntityKey(entity.getClass(), identifierMetadata.getValue(entity)), entity);
+            }
+        }
+        pendingIdentityInserts.clear();
+    }
+
+    /**
+     * commit 이후 호출한다.
+     * flush ~ commit 사이에 다른 트랜잭션이 커밋 전 값을 다시 캐시했을 수 있으므로 한 번 더 제거한다.
+     */
+    public void afterCommit() {
+        secondLevelCache.evictAll(pendingInvalidations);
+        queryResultCache.invalidate(pendingTableInvalidations);
+        pendingInvalidations.clear();
+        pendingTableInvalidations.clear();
+    }
+
+    // 아직 commit 하지 않은 변경이 있으면 이 트랜잭션의 query 결과는 다른 EntityManager 와 공유하면 안 된다
+    public boolean hasPendingTableChanges() {
+        return !pendingTableInvalidations.isEmpty();
+    }
+
+    private void collectInvalidation(Object entity) {
+        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
+        Object idValue = metadata.getIdentifierMetadata().getValue(entity);
+        if (secondLevelCache.isCacheable(metadata) && idValue != null) {
+            pendingInvalidations.add(new EntityKey(entity.getClass(), idValue));
+        }
+        collectTableInvalidation(entity);
+    }
+
+    private void collectTableInvalidation(Object entity) {
+        if (queryResultCache.isEnabled()) {
+            pendingTableInvalidations.add(metadataRegistry.getMetadata(entity.getClass()).getTableName());
+        }
     }
 
     private void removeEntityFromFirstCacheAndEntries() {
         for (Object removedEntity : findRemovedEntities()) {
             EntityMetadata metadata = metadataRegistry.getMetadata(removedEntity.getClass());
             Object idValue = metadata.getIdentifierMetadata().getValue(removedEntity);
-            firstLevelCache.remove(new EntityKey(removedEntity.getClass(), idValue));
+            if (idValue != null) {
+                firstLevelCache.remove(new EntityKey(removedEntity.getClass(), idValue));
+            }
             entityEntries.remove(removedEntity);
         }
     }
@@ -105,12 +219,17 @@ public class PersistenceContext {
         EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
         if (entityEntry.isManaged() && entityEntry.isModified(metadata)) {
             actionQueue.addUpdate(entity, entityEntry);
+            collectInvalidation(entity);
         }
     }
 
     public void clear() {
         firstLevelCache.clear();
         entityEntries.clear();
+        pendingIdentityInserts.clear();
+        // rollback 된 변경의 무효화 대상이 남으면 query cache 가 계속 꺼지고 다음 commit 에서 불필요하게 제거된다
+        pendingInvalidations.clear();
+        pendingTableInvalidations.clear();
         actionQueue.clear();
     }
 
@@ -6,4 +6,8 @@ public interface EntityAction {
     void execute(Connection connection);
 
     Object getEntity();
+
+    // 단건 실행, batch 실행 모두 끝난 뒤 호출된다
+    default void afterExecute() {
+    }
 }
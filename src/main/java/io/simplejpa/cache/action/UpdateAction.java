@@ -1,7 +1,6 @@
 package io.simplejpa.cache.action;
 
 import io.simplejpa.cache.EntityEntry;
-import io.simplejpa.engine.sql.SqlWithParameters;
 import io.simplejpa.persister.EntityUpdater;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,12 +25,19 @@ public class UpdateAction implements EntityAction {
     @Override
     public void execute(Connection connection) {
         entityUpdater.update(connection, entity, entityEntry);
-        Object[] updateValues = entityUpdater.extractUpdateValues(entity);
-        entityEntry.updateSnapShot(updateValues);
+    }
+
+    @Override
+    public void afterExecute() {
+        entityUpdater.updateSnapShot(entity, entityEntry);
     }
 
     @Override
     public Object getEntity() {
         return entity;
     }
+
+    public EntityEntry getEntityEntry() {
+        return entityEntry;
+    }
 }
@@ -0,0 +1,98 @@
+package io.simplejpa.cache.secondlevel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * query 결과 cache
+ * 변환된 SQL + 바인딩 값 별로 결과 엔티티의 id 목록만 저장하고,
+ * 엔티티 자체는 영속성 컨텍스트, 2차 캐시, DB 순서로 다시 찾는다.
+ * 조회 대상 테이블이 query 실행 이후 변경됐으면 결과를 버린다.
+ */
+public class QueryResultCache {
+    private final SieveCache<QueryKey, CachedResult> results;
+    private final UpdateTimestamps updateTimestamps = new UpdateTimestamps();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public QueryResultCache(int maxSize) {
+        this.results = maxSize > 0 ? new SieveCache<>(maxSize) : null;
+    }
+
+    public boolean isEnabled() {
+        return results != null;
+    }
+
+    public List<Object> get(String sql, Object[] parameters, String tableName) {
+        QueryKey key = new QueryKey(sql, parameters);
+        CachedResult cachedResult = results.get(key);
+        if (cachedResult == null) {
+            missCount.increment();
+            return null;
+        }
+        if (!updateTimestamps.isUpToDate(tableName, cachedResult.queryStartedAt())) {
+            results.remove(key);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return cachedResult.ids();
+    }
+
+    public void put(String sql, Object[] parameters, String tableName, List<Object> ids, long queryStartedAt) {
+        // 실행 도중 테이블이 변경됐으면 저장하지 않는다
+        if (!updateTimestamps.isUpToDate(tableName, queryStartedAt)) {
+            return;
+        }
+        results.put(new QueryKey(sql, parameters), new CachedResult(List.copyOf(ids), queryStartedAt));
+    }
+
+    public void invalidate(Collection<String> tableNames) {
+        if (isEnabled() && !tableNames.isEmpty()) {
+            updateTimestamps.invalidate(tableNames);
+        }
+    }
+
+    public void clear() {
+        if (isEnabled()) {
+            results.clear();
+        }
+    }
+
+    public int size() {
+        return isEnabled() ? results.size() : 0;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private record CachedResult(List<Object> ids, long queryStartedAt) {
+    }
+
+    // 배열은 내용으로 비교해야 하므로 equals, hashCode 를 직접 정의
+    private record QueryKey(String sql, Object[] parameters) {
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof QueryKey that)) return false;
+            return sql.equals(that.sql) && Arrays.equals(parameters, that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + Arrays.hashCode(parameters);
+        }
+
+        @Override
+        public String toString() {
+            return "QueryKey{sql='" + sql + "', parameters=" + Arrays.toString(parameters) + '}';
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.simplejpa.cache.secondlevel;
+
+import io.simplejpa.cache.EntityKey;
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.EntityMetadata;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * factory 범위 2차 캐시
+ * 살아있는 엔티티 대신 분해한 속성 값 배열을 저장하고, 꺼낼 때마다 새 인스턴스로 조립한다.
+ * @Cacheable 엔티티만 대상이며 설정이 없으면 사용하지 않는다.
+ */
+public class SecondLevelCache {
+    private final SieveCache<EntityKey, CachedState> entries;
+    private final long timeToLiveNanos;
+    // 엔티티 타입별 마지막 무효화 시각, 무효화 전에 시작한 조회 결과는 저장하지 않는다
+    private final Map<Class<?>, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public SecondLevelCache(SecondLevelCacheConfiguration configuration) {
+        this.entries = configuration == null ? null : new SieveCache<>(configuration.getMaxSize());
+        this.timeToLiveNanos = configuration == null ? 0L : configuration.getTimeToLive().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return entries != null;
+    }
+
+    public boolean isCacheable(EntityMetadata metadata) {
+        return isEnabled() && metadata.isCacheable();
+    }
+
+    public Object get(EntityMetadata metadata, Object id) {
+        if (!isCacheable(metadata)) {
+            return null;
+        }
+        EntityKey key = new EntityKey(metadata.getEntityClass(), id);
+        CachedState cachedState = entries.get(key);
+        if (cachedState == null) {
+            missCount.increment();
+            return null;
+        }
+        if (cachedState.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return assemble(metadata, id, cachedState.state());
+    }
+
+    /**
+     * DB 에서 읽은 엔티티를 저장한다.
+     * loadStartedAt 이후 같은 타입이 무효화됐으면 오래된 값일 수 있으므로 저장하지 않는다.
+     */
+    public void putFromLoad(EntityMetadata metadata, Object entity, long loadStartedAt) {
+        if (!isCacheable(metadata)) {
+            return;
+        }
+        Long lastInvalidated = invalidatedAt.get(metadata.getEntityClass());
+        if (lastInvalidated != null && lastInvalidated - loadStartedAt >= 0) {
+            return;
+        }
+        Object id = metadata.getIdentifierMetadata().getValue(entity);
+        entries.put(new EntityKey(metadata.getEntityClass(), id), new CachedState(
+                disassemble(metadata, entity),
+                System.nanoTime() + timeToLiveNanos
+        ));
+    }
+
+    public void evict(EntityKey key) {
+        if (!isEnabled()) {
+            return;
+        }
+        invalidatedAt.put(key.getEntityClass(), System.nanoTime());
+        entries.remove(key);
+    }
+
+    public void evictAll(Collection<EntityKey> keys) {
+        keys.forEach(this::evict);
+    }
+
+    public void clear() {
+        if (isEnabled()) {
+            entries.clear();
+        }
+    }
+
+    private Object[] disassemble(EntityMetadata metadata, Object entity) {
+        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
+        Object[] state = new Object[attributeMetadatas.size()];
+        for (int i = 0; i < attributeMetadatas.size(); i++) {
+            state[i] = attributeMetadatas.get(i).getValue(entity);
+        }
+        return state;
+    }
+
+    private Object assemble(EntityMetadata metadata, Object id, Object[] state) {
+        Object entity = metadata.newInstance();
+        metadata.getIdentifierMetadata().setValue(entity, id);
+        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
+        for (int i = 0; i < attributeMetadatas.size(); i++) {
+            attributeMetadatas.get(i).setValue(entity, state[i]);
+        }
+        return entity;
+    }
+
+    public int size() {
+        return isEnabled() ? entries.size() : 0;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private record CachedState(Object[] state, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.simplejpa.cache.secondlevel;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Getter
+public class SecondLevelCacheConfiguration {
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final int queryCacheSize; // 0 이면 query 결과 cache 사용 x
+
+    @Builder
+    public SecondLevelCacheConfiguration(
+            Integer maxSize,
+            Duration timeToLive,
+            Integer queryCacheSize
+    ) {
+        this.maxSize = Objects.requireNonNullElse(maxSize, DEFAULT_MAX_SIZE);
+        this.timeToLive = Objects.requireNonNullElse(timeToLive, DEFAULT_TIME_TO_LIVE);
+        this.queryCacheSize = Objects.requireNonNullElse(queryCacheSize, 0);
+        validate();
+    }
+
+    private void validate() {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Second level cache size must be at least 1");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Second level cache time to live must be positive");
+        }
+        if (queryCacheSize < 0) {
+            throw new IllegalArgumentException("Query cache size cannot be negative");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SecondLevelCacheConfiguration{" +
+                "maxSize=" + maxSize +
+                ", timeToLive=" + timeToLive +
+                ", queryCacheSize=" + queryCacheSize +
+                '}';
+    }
+}
@@ -0,0 +1,139 @@
+package io.simplejpa.cache.secondlevel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SIEVE 정책의 bounded cache
+ * 조회는 visited 표시만 하므로 lock 없이 동작하고, 삽입/제거만 lock 을 잡는다.
+ * 제거 시 hand 가 꼬리에서 머리 방향으로 움직이며 visited 를 지우고, 처음 만난 미방문 node 를 내보낸다.
+ */
+public class SieveCache<K, V> {
+    private final int maxSize;
+    private final Map<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Node<K, V> head; // 가장 최근 삽입
+    private Node<K, V> tail; // 가장 오래된 삽입
+    private Node<K, V> hand;
+
+    public SieveCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.visited = true;
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            Node<K, V> existing = nodes.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.visited = true;
+                return;
+            }
+            if (nodes.size() >= maxSize) {
+                evict();
+            }
+            Node<K, V> node = new Node<>(key, value);
+            addToHead(node);
+            nodes.put(key, node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = nodes.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            nodes.clear();
+            head = null;
+            tail = null;
+            hand = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private void evict() {
+        Node<K, V> candidate = hand != null ? hand : tail;
+        while (candidate != null && candidate.visited) {
+            candidate.visited = false;
+            candidate = candidate.prev != null ? candidate.prev : tail;
+        }
+        if (candidate == null) {
+            return;
+        }
+        hand = candidate.prev;
+        nodes.remove(candidate.key);
+        unlink(candidate);
+    }
+
+    private void addToHead(Node<K, V> node) {
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        head = node;
+        if (tail == null) {
+            tail = node;
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (hand == node) {
+            hand = node.prev;
+        }
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile boolean visited;
+        private Node<K, V> prev; // 머리 방향
+        private Node<K, V> next; // 꼬리 방향
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
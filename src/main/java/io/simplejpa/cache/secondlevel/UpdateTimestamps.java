@@ -0,0 +1,25 @@
+package io.simplejpa.cache.secondlevel;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블별 마지막 변경 시각 (System.nanoTime)
+ * 이 시각 이전에 실행한 query 결과는 오래된 것으로 본다.
+ */
+public class UpdateTimestamps {
+    private final Map<String, Long> timestamps = new ConcurrentHashMap<>();
+
+    public void invalidate(Collection<String> tableNames) {
+        long now = System.nanoTime();
+        for (String tableName : tableNames) {
+            timestamps.merge(tableName, now, Math::max);
+        }
+    }
+
+    public boolean isUpToDate(String tableName, long queryStartedAt) {
+        Long lastUpdated = timestamps.get(tableName);
+        return lastUpdated == null || queryStartedAt - lastUpdated > 0;
+    }
+}
@@ -0,0 +1,134 @@
+package io.simplejpa.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 조회 작업을 호출 스레드가 아닌 executor 에서 실행한다.
+ * 작업마다 새 EntityManager 와 읽기 전용 트랜잭션(= 자기 connection)을 사용하므로
+ * 서로 독립적인 조회는 DB 대기 시간이 겹쳐서 진행되고, 결과 엔티티는 detached 상태로 반환된다.
+ */
+@Slf4j
+public class AsyncQueryRunner {
+    // factory 를 닫을 때 진행 중인 작업을 기다리는 최대 시간, 넘으면 남은 작업은 취소한다
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Executor executor;
+    private final boolean ownsExecutor; // 직접 만든 executor 만 factory 를 닫을 때 종료한다
+    private final Supplier<EntityManagerImpl> entityManagerSupplier;
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final Set<CompletableFuture<?>> pendingFutures = ConcurrentHashMap.newKeySet();
+
+    public AsyncQueryRunner(Executor executor, int parallelism, Supplier<EntityManagerImpl> entityManagerSupplier) {
+        this.ownsExecutor = executor == null;
+        this.executor = executor == null ? createDefaultExecutor(parallelism) : executor;
+        this.entityManagerSupplier = entityManagerSupplier;
+    }
+
+    public <R> CompletableFuture<R> submit(Function<EntityManagerImpl, R> work) {
+        if (!open.get()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("EntityManagerFactory is closed"));
+        }
+        CompletableFuture<R> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> runInReadOnlyTransaction(work), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("EntityManagerFactory is closed", e));
+        }
+        pendingFutures.add(future);
+        future.whenComplete((result, failure) -> pendingFutures.remove(future));
+        // 등록하는 사이에 shutdown 됐다면 shutdown 이 이 작업을 못 봤을 수 있다
+        if (!open.get()) {
+            future.cancel(false);
+        }
+        return future;
+    }
+
+    private <R> R runInReadOnlyTransaction(Function<EntityManagerImpl, R> work) {
+        EntityManagerImpl entityManager = entityManagerSupplier.get();
+        EntityTransaction transaction = entityManager.getTransaction();
+        try {
+            transaction.setReadOnly(true);
+            transaction.begin();
+            R result = work.apply(entityManager);
+            transaction.commit();
+            return result;
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 새 작업을 받지 않고, 진행 중인 작업이 끝나기를 timeout 까지 기다린 뒤 남은 작업은 취소한다.
+     * connection pool 을 닫기 전에 호출해야 작업이 pool 종료 오류로 실패하지 않는다.
+     */
+    public void shutdown(Duration timeout) {
+        if (!open.compareAndSet(true, false)) {
+            return;
+        }
+        awaitPendingFutures(timeout);
+        int cancelled = 0;
+        for (CompletableFuture<?> future : pendingFutures) {
+            if (future.cancel(true)) {
+                cancelled++;
+            }
+        }
+        if (cancelled > 0) {
+            log.warn("Cancelled {} async queries still running after {}", cancelled, timeout);
+        }
+        if (ownsExecutor && executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void awaitPendingFutures(Duration timeout) {
+        try {
+            CompletableFuture.allOf(pendingFutures.toArray(CompletableFuture<?>[]::new))
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 작업별 실패는 각 future 를 받은 호출자에게 전달된다
+        } catch (TimeoutException e) {
+            log.debug("Async queries did not finish within {}", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Java 21 이상이면 virtual thread executor 를 사용한다. (빌드 대상이 17 이라 reflection 으로 찾는다)
+     * 그 아래 버전에서는 connection 수만큼의 daemon 스레드 pool 로 대신한다.
+     */
+    private static ExecutorService createDefaultExecutor(int parallelism) {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads are not available, using a fixed thread pool of {}", parallelism);
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "simplejpa-async-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package io.simplejpa.core;
 
+import io.simplejpa.query.Query;
+import io.simplejpa.query.TypedQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface EntityManager {
     EntityTransaction getTransaction();
 
@@ -11,6 +18,12 @@ public interface EntityManager {
 
     <T> T find(Class<T> entityClass, Object primaryKey);
 
+    // ids 순서대로 반환하고, 없는 id 자리는 null
+    <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys);
+
+    // 별도 connection 의 읽기 전용 트랜잭션에서 조회하며, 결과 엔티티는 detached 상태다
+    <T> CompletableFuture<T> findAsync(Class<T> entityClass, Object primaryKey);
+
     <T> T merge(T entity);
 
     void remove(Object entity);
@@ -18,4 +31,8 @@ public interface EntityManager {
     void flush();
 
     boolean contains(Object entity);
+
+    Query createQuery(String jpql);
+
+    <T> TypedQuery<T> createQuery(String jpql, Class<T> resultClass);
 }
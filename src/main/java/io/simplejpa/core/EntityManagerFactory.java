@@ -1,7 +1,11 @@
 package io.simplejpa.core;
 
+import io.simplejpa.stat.Statistics;
+
 public interface EntityManagerFactory {
     EntityManager createEntityManager();
     void close();
     boolean isOpen();
+    // setEnabled, reset 으로 실행 중에 켜고 끄거나 초기화할 수 있다
+    Statistics getStatistics();
 }
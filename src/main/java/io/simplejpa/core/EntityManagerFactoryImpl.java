@@ -2,76 +2,160 @@ package io.simplejpa.core;
 
 import io.simplejpa.cache.ActionQueue;
 import io.simplejpa.cache.PersistenceContext;
+import io.simplejpa.cache.secondlevel.QueryResultCache;
+import io.simplejpa.cache.secondlevel.SecondLevelCache;
 import io.simplejpa.engine.connection.ConnectionConfiguration;
 import io.simplejpa.engine.connection.ConnectionProvider;
 import io.simplejpa.engine.connection.DriverManagerConnectionProvider;
+import io.simplejpa.engine.connection.PooledConnectionProvider;
+import io.simplejpa.engine.id.IdentifierGeneratorRegistry;
+import io.simplejpa.engine.jdbc.ExecutionListener;
 import io.simplejpa.engine.jdbc.JdbcExecutor;
 import io.simplejpa.engine.jdbc.ParameterBinder;
-import io.simplejpa.engine.sql.*;
+import io.simplejpa.engine.jdbc.RowMapperCache;
+import io.simplejpa.engine.jdbc.SlowQueryLogger;
+import io.simplejpa.engine.jdbc.StatementCacheRegistry;
 import io.simplejpa.metadata.MetadataRegistry;
 import io.simplejpa.persister.EntityDeleter;
 import io.simplejpa.persister.EntityLoader;
 import io.simplejpa.persister.EntityPersister;
 import io.simplejpa.persister.EntityUpdater;
+import io.simplejpa.query.jpql.JpqlParser;
+import io.simplejpa.query.jpql.QueryPlanCache;
+import io.simplejpa.query.jpql.QueryTranslator;
+import io.simplejpa.stat.Statistics;
 import io.simplejpa.util.TypeConverter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 public class EntityManagerFactoryImpl implements EntityManagerFactory {
-    private final PersistenceContext persistenceContext;
     private final MetadataRegistry metadataRegistry;
     private final ConnectionProvider connectionProvider;
-    private boolean open;
-    private final Set<EntityManager> activeEntityManagers;
+    // stateless 컴포넌트는 factory 에서 한 번만 만들고 EntityManager 끼리 공유
+    private final EntityPersister entityPersister;
+    private final EntityUpdater entityUpdater;
+    private final EntityDeleter entityDeleter;
+    private final EntityLoader entityLoader;
+    private final JdbcExecutor jdbcExecutor;
+    private final ParameterBinder parameterBinder;
+    private final StatementCacheRegistry statementCacheRegistry;
+    private final QueryPlanCache queryPlanCache;
+    private final RowMapperCache rowMapperCache;
+    private final SecondLevelCache secondLevelCache;
+    private final QueryResultCache queryResultCache;
+    private final IdentifierGeneratorRegistry identifierGeneratorRegistry;
+    private final Statistics statistics;
+    private final AsyncQueryRunner asyncQueryRunner;
+    private final int jdbcBatchSize;
+    // monitor lock 은 virtual thread 를 carrier 에 고정시키므로 상태는 atomic 으로 관리한다
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final Set<EntityManager> activeEntityManagers = ConcurrentHashMap.newKeySet(); // close 한 EntityManager 는 제거
 
     private EntityManagerFactoryImpl(
-            PersistenceContext persistenceContext,
             MetadataRegistry metadataRegistry,
             ConnectionProvider connectionProvider,
-            Set<EntityManager> activeEntityManagers
+            ConnectionProvider physicalConnectionProvider,
+            JdbcExecutor jdbcExecutor,
+            ParameterBinder parameterBinder,
+            StatementCacheRegistry statementCacheRegistry,
+            QueryPlanCache queryPlanCache,
+            RowMapperCache rowMapperCache,
+            SecondLevelCache secondLevelCache,
+            QueryResultCache queryResultCache,
+            Statistics statistics,
+            int jdbcBatchSize,
+            int multiLoadBatchSize,
+            boolean dynamicUpdate,
+            Executor asyncExecutor,
+            int asyncParallelism
     ) {
-        this.persistenceContext = persistenceContext;
         this.metadataRegistry = metadataRegistry;
         this.connectionProvider = connectionProvider;
-        this.activeEntityManagers = activeEntityManagers;
-        this.open = true;
+        this.entityPersister = new EntityPersister(jdbcExecutor, metadataRegistry);
+        this.entityUpdater = new EntityUpdater(metadataRegistry, jdbcExecutor, dynamicUpdate);
+        this.entityDeleter = new EntityDeleter(metadataRegistry, jdbcExecutor);
+        this.entityLoader = new EntityLoader(
+                metadataRegistry,
+                jdbcExecutor,
+                rowMapperCache,
+                secondLevelCache,
+                multiLoadBatchSize
+        );
+        this.jdbcExecutor = jdbcExecutor;
+        this.parameterBinder = parameterBinder;
+        this.statementCacheRegistry = statementCacheRegistry;
+        this.queryPlanCache = queryPlanCache;
+        this.rowMapperCache = rowMapperCache;
+        this.secondLevelCache = secondLevelCache;
+        this.queryResultCache = queryResultCache;
+        // TABLE 전략의 블록 예약은 pool 밖의 물리 connection 을 쓴다
+        // (pool 이 가득 찬 상태에서 예약이 connection 을 기다리면 allocation lock 을 잡은 채 멈춘다)
+        this.identifierGeneratorRegistry = new IdentifierGeneratorRegistry(physicalConnectionProvider, jdbcExecutor);
+        this.statistics = statistics;
+        this.asyncQueryRunner = new AsyncQueryRunner(asyncExecutor, asyncParallelism, this::createAsyncEntityManager);
+        this.jdbcBatchSize = jdbcBatchSize;
     }
 
     public static EntityManagerFactoryImpl createEntityManagerFactoryInstance(PersistenceConfiguration configuration) {
         MetadataRegistry registry = registerEntityClasses(configuration);
+        ParameterBinder parameterBinder = new ParameterBinder();
+        StatementCacheRegistry statementCacheRegistry = new StatementCacheRegistry(configuration.getStatementCacheSize());
+        ConnectionProvider physicalConnectionProvider = createPhysicalConnectionProvider(configuration);
+        ConnectionProvider connectionProvider = configuration.isConnectionPoolEnabled()
+                ? new PooledConnectionProvider(physicalConnectionProvider, configuration.getConnectionPool())
+                : physicalConnectionProvider;
+        // pool 은 물리 provider 에 callback 을 넘기므로 pool 밖 connection 의 statement cache 도 정리된다
+        connectionProvider.setCloseCallback(statementCacheRegistry::release);
+        Statistics statistics = new Statistics(configuration.isStatisticsEnabled());
         return new EntityManagerFactoryImpl(
-                new PersistenceContext(createActionQueue(registry), registry),
                 registry,
-                new DriverManagerConnectionProvider(new ConnectionConfiguration(
-                        configuration.getUrl(),
-                        configuration.getUsername(),
-                        configuration.getPassword(),
-                        configuration.getDriver()
-                )),
-                new HashSet<>());
-    }
-
-    private static ActionQueue createActionQueue(MetadataRegistry registry) {
-        return new ActionQueue(
-                new EntityPersister(
-                        new JdbcExecutor(new ParameterBinder()),
-                        new InsertSqlGenerator(new ParameterCollector(new TypeConverter())),
-                        registry
+                connectionProvider,
+                physicalConnectionProvider,
+                new JdbcExecutor(parameterBinder, statementCacheRegistry, statistics, createExecutionListeners(configuration)),
+                parameterBinder,
+                statementCacheRegistry,
+                new QueryPlanCache(
+                        configuration.getQueryPlanCacheSize(),
+                        new JpqlParser(),
+                        new QueryTranslator(registry)
                 ),
-                new EntityUpdater(
-                        registry,
-                        new UpdateSqlGenerator(new ParameterCollector(new TypeConverter())),
-                        new JdbcExecutor(new ParameterBinder())),
-                new EntityDeleter(
-                        registry,
-                        new DeleteSqlGenerator(),
-                        new JdbcExecutor(new ParameterBinder())
-
-                )
-        );
+                new RowMapperCache(new TypeConverter()),
+                new SecondLevelCache(configuration.getSecondLevelCache()),
+                new QueryResultCache(configuration.isSecondLevelCacheEnabled()
+                        ? configuration.getSecondLevelCache().getQueryCacheSize()
+                        : 0),
+                statistics,
+                configuration.getJdbcBatchSize(),
+                configuration.getMultiLoadBatchSize(),
+                configuration.isDynamicUpdate(),
+                configuration.getAsyncExecutor(),
+                configuration.isConnectionPoolEnabled()
+                        ? configuration.getConnectionPool().getMaxSize()
+                        : Runtime.getRuntime().availableProcessors());
+    }
+
+    private static List<ExecutionListener> createExecutionListeners(PersistenceConfiguration configuration) {
+        List<ExecutionListener> executionListeners = new ArrayList<>(configuration.getExecutionListeners());
+        if (configuration.isSlowQueryLogEnabled()) {
+            executionListeners.add(new SlowQueryLogger(configuration.getSlowQueryThreshold()));
+        }
+        return executionListeners;
+    }
+
+    private static ConnectionProvider createPhysicalConnectionProvider(PersistenceConfiguration configuration) {
+        return new DriverManagerConnectionProvider(new ConnectionConfiguration(
+                configuration.getUrl(),
+                configuration.getUsername(),
+                configuration.getPassword(),
+                configuration.getDriver()
+        ));
     }
 
     private static MetadataRegistry registerEntityClasses(PersistenceConfiguration configuration) {
@@ -89,40 +173,113 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory {
     }
 
     @Override
-    public synchronized EntityManager createEntityManager() {
+    public EntityManager createEntityManager() {
+        validateOpen();
+        EntityManagerImpl entityManager = newEntityManager();
+        entityManager.setCloseCallback(() -> activeEntityManagers.remove(entityManager));
+        activeEntityManagers.add(entityManager);
+        // 등록하는 사이에 close 됐다면 close 가 이 EntityManager 를 못 봤을 수 있다
+        if (!isOpen()) {
+            activeEntityManagers.remove(entityManager);
+            throw new IllegalStateException("EntityManagerFactory is closed");
+        }
+        return entityManager;
+    }
+
+    // 비동기 조회는 작업이 끝나면 바로 닫으므로 activeEntityManagers 에 등록하지 않는다
+    // 작업 접수는 AsyncQueryRunner 가 판단하므로, close 중에도 이미 받은 작업은 끝까지 실행된다
+    private EntityManagerImpl createAsyncEntityManager() {
+        return newEntityManager();
+    }
+
+    private void validateOpen() {
         if (!isOpen()) {
             throw new IllegalStateException("EntityManagerFactory is closed");
         }
-        EntityManager entityManager = new EntityManagerImpl(
+    }
+
+    private EntityManagerImpl newEntityManager() {
+        return new EntityManagerImpl(
                 metadataRegistry,
-                persistenceContext,
+                createPersistenceContext(),
                 connectionProvider,
-                new EntityLoader(
-                        metadataRegistry,
-                        new SelectSqlGenerator(),
-                        new JdbcExecutor(new ParameterBinder())
-                ),
-                new ParameterBinder()
+                entityLoader,
+                jdbcExecutor,
+                parameterBinder,
+                queryPlanCache,
+                rowMapperCache,
+                queryResultCache,
+                statistics,
+                asyncQueryRunner
+        );
+    }
+
+    // EntityManager 마다 독립된 1차 캐시와 쓰기 지연 저장소를 가진다
+    private PersistenceContext createPersistenceContext() {
+        return new PersistenceContext(
+                new ActionQueue(entityPersister, entityUpdater, entityDeleter, jdbcBatchSize, statistics),
+                metadataRegistry,
+                secondLevelCache,
+                queryResultCache,
+                identifierGeneratorRegistry
         );
-        activeEntityManagers.add(entityManager);
-        return entityManager;
     }
 
     @Override
-    public synchronized void close() {
-        if (!isOpen()) {
+    public void close() {
+        if (!open.compareAndSet(true, false)) {
             return;
         }
-        for (EntityManager activeEntityManager : activeEntityManagers) {
-            activeEntityManager.close();
+        // 진행 중인 비동기 조회가 connection 을 쓰는 동안 pool 을 닫지 않도록 먼저 기다린다
+        asyncQueryRunner.shutdown(AsyncQueryRunner.SHUTDOWN_TIMEOUT);
+        for (EntityManager activeEntityManager : List.copyOf(activeEntityManagers)) {
+            try {
+                // 끝나지 않은 트랜잭션은 rollback 해서 connection 을 pool 에 돌려준 뒤 닫는다
+                EntityTransaction transaction = activeEntityManager.getTransaction();
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                activeEntityManager.close();
+            } catch (RuntimeException e) {
+                log.warn("Failed to close EntityManager while closing factory", e);
+            }
         }
         activeEntityManagers.clear();
         connectionProvider.shutDown();
-        open = false;
+        jdbcExecutor.closeExecutionListeners();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    public int getActiveEntityManagerCount() {
+        return activeEntityManagers.size();
     }
 
     @Override
-    public synchronized boolean isOpen() {
-        return this.open;
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    public StatementCacheRegistry getStatementCacheRegistry() {
+        return statementCacheRegistry;
+    }
+
+    public QueryPlanCache getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
+    public RowMapperCache getRowMapperCache() {
+        return rowMapperCache;
+    }
+
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
     }
 }
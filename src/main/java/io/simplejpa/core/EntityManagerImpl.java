@@ -1,55 +1,85 @@
 package io.simplejpa.core;
 
 import io.simplejpa.cache.PersistenceContext;
+import io.simplejpa.cache.secondlevel.QueryResultCache;
 import io.simplejpa.engine.connection.ConnectionProvider;
-import io.simplejpa.engine.jdbc.EntityResultSetExtractor;
+import io.simplejpa.engine.jdbc.EntityRowMapper;
+import io.simplejpa.engine.jdbc.JdbcExecutor;
 import io.simplejpa.engine.jdbc.ParameterBinder;
+import io.simplejpa.engine.jdbc.ResultSetCursor;
+import io.simplejpa.engine.jdbc.ResultSetExtractor;
+import io.simplejpa.engine.jdbc.RowMapperCache;
+import io.simplejpa.jfr.HydrationEvent;
 import io.simplejpa.metadata.EntityMetadata;
 import io.simplejpa.metadata.MetadataRegistry;
 import io.simplejpa.persister.EntityLoader;
 import io.simplejpa.query.Query;
+import io.simplejpa.query.Page;
+import io.simplejpa.query.QueryHints;
 import io.simplejpa.query.QueryImpl;
+import io.simplejpa.query.ResultCursor;
+import io.simplejpa.query.RowBounds;
 import io.simplejpa.query.TypedQuery;
 import io.simplejpa.query.TypedQueryImpl;
-import io.simplejpa.query.jpql.JpqlParser;
 import io.simplejpa.query.jpql.QueryExecutor;
-import io.simplejpa.query.jpql.QueryTranslator;
+import io.simplejpa.query.jpql.QueryPlanCache;
 import io.simplejpa.query.jpql.TranslatedQuery;
-import io.simplejpa.query.jpql.ast.SelectStatement;
+import io.simplejpa.stat.Statistics;
 import io.simplejpa.transaction.JdbcTransaction;
-import io.simplejpa.util.TypeConverter;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class EntityManagerImpl implements EntityManager, QueryExecutor {
     private final MetadataRegistry metadataRegistry;
     private final PersistenceContext persistenceContext;
     private final JdbcTransaction jdbcTransaction;
     private final EntityLoader entityLoader;
+    private final JdbcExecutor jdbcExecutor;
     private final ParameterBinder parameterBinder;
+    private final QueryPlanCache queryPlanCache;
+    private final RowMapperCache rowMapperCache;
+    private final QueryResultCache queryResultCache;
+    private final Statistics statistics;
+    private final AsyncQueryRunner asyncQueryRunner;
     private boolean open;
+    private Runnable closeCallback;
 
     public EntityManagerImpl(
             MetadataRegistry metadataRegistry,
             PersistenceContext persistenceContext,
             ConnectionProvider connectionProvider,
             EntityLoader entityLoader,
-            ParameterBinder parameterBinder
+            JdbcExecutor jdbcExecutor,
+            ParameterBinder parameterBinder,
+            QueryPlanCache queryPlanCache,
+            RowMapperCache rowMapperCache,
+            QueryResultCache queryResultCache,
+            Statistics statistics,
+            AsyncQueryRunner asyncQueryRunner
     ) {
         this.metadataRegistry = metadataRegistry;
         this.persistenceContext = persistenceContext;
-        this.jdbcTransaction = new JdbcTransaction(connectionProvider);
+        this.jdbcTransaction = new JdbcTransaction(connectionProvider, statistics);
+        this.jdbcExecutor = jdbcExecutor;
         this.parameterBinder = parameterBinder;
+        this.queryPlanCache = queryPlanCache;
+        this.rowMapperCache = rowMapperCache;
+        this.queryResultCache = queryResultCache;
+        this.statistics = statistics;
+        this.asyncQueryRunner = asyncQueryRunner;
 
         // call back
         this.jdbcTransaction.setFlushCallback(this::flush);
         this.jdbcTransaction.setClearCallback(persistenceContext::clear);
+        this.jdbcTransaction.setAfterCommitCallback(persistenceContext::afterCommit);
 
         this.entityLoader = entityLoader;
         this.open = true;
@@ -66,19 +96,28 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
         if (!isOpen()) {
             return;
         }
+        // 트랜잭션이 connection 을 잡고 있으면 열린 채로 factory 목록에 남겨둔다
+        if (jdbcTransaction.isActive()) {
+            throw new IllegalStateException(
+                    "Cannot close EntityManager with active transaction. " +
+                            "Call commit() or rollback() first."
+            );
+        }
         try {
-            if (jdbcTransaction.isActive()) {
-                throw new IllegalStateException(
-                        "Cannot close EntityManager with active transaction. " +
-                                "Call commit() or rollback() first."
-                );
-            }
             persistenceContext.clear();
         } finally {
             open = false;
+            if (closeCallback != null) {
+                closeCallback.run();
+            }
         }
     }
 
+    // factory 가 등록한 EntityManager 목록에서 제거할 때 사용
+    public void setCloseCallback(Runnable callback) {
+        this.closeCallback = callback;
+    }
+
     @Override
     public boolean isOpen() {
         return this.open;
@@ -86,8 +125,9 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
 
     @Override
     public void persist(Object entity) {
+        validateWritable();
         validatePersistable(entity);
-        persistenceContext.addEntity(entity);
+        persistenceContext.addEntity(entity, jdbcTransaction.getConnection());
     }
 
     private void validatePersistable(Object entity) {
@@ -102,6 +142,12 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
         }
     }
 
+    private void validateWritable() {
+        if (jdbcTransaction.isReadOnly()) {
+            throw new IllegalStateException("EntityManager is in read-only mode");
+        }
+    }
+
     private void validateOpen() {
         if (!isOpen()) {
             throw new IllegalStateException("EntityManager is closed");
@@ -113,18 +159,74 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
         validateQueryable(entityClass, primaryKey);
         T entity = persistenceContext.getEntity(entityClass, primaryKey);
         if (entity != null) {
+            statistics.recordFirstLevelCacheHit();
             return entity;
         }
+        statistics.recordFirstLevelCacheMiss();
 
         validateTransactionIsActive();
 
         entity = entityLoader.load(jdbcTransaction.getConnection(), entityClass, primaryKey);
         if (entity != null) {
-            persistenceContext.addEntity(entity);
+            registerLoadedEntity(entity, jdbcTransaction.isReadOnly());
         }
         return entity;
     }
 
+    @Override
+    public <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys) {
+        validateOpen();
+        if (entityClass == null) {
+            throw new IllegalArgumentException("Entity class must not be null");
+        }
+        if (primaryKeys == null) {
+            throw new IllegalArgumentException("Primary keys must not be null");
+        }
+
+        // 1차 캐시에 없는 id 만 DB 에서 조회한다
+        // (List.of 같은 불변 컬렉션은 contains(null) 에서 NPE 를 던지므로 순회하며 검사)
+        LinkedHashSet<Object> missingIds = new LinkedHashSet<>();
+        for (Object primaryKey : primaryKeys) {
+            if (primaryKey == null) {
+                throw new IllegalArgumentException("Primary keys must not contain null");
+            }
+            if (persistenceContext.getEntity(entityClass, primaryKey) == null) {
+                statistics.recordFirstLevelCacheMiss();
+                missingIds.add(primaryKey);
+            } else {
+                statistics.recordFirstLevelCacheHit();
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            validateTransactionIsActive();
+            Map<Object, T> loaded = entityLoader.loadAll(
+                    jdbcTransaction.getConnection(),
+                    entityClass,
+                    new ArrayList<>(missingIds)
+            );
+            for (T entity : loaded.values()) {
+                registerLoadedEntity(entity, jdbcTransaction.isReadOnly());
+            }
+        }
+
+        List<T> results = new ArrayList<>(primaryKeys.size());
+        for (Object primaryKey : primaryKeys) {
+            results.add(persistenceContext.getEntity(entityClass, primaryKey));
+        }
+        return results;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> findAsync(Class<T> entityClass, Object primaryKey) {
+        validateQueryable(entityClass, primaryKey);
+        return asyncQueryRunner.submit(entityManager -> entityManager.find(entityClass, primaryKey));
+    }
+
+    private void registerLoadedEntity(Object entity, boolean readOnly) {
+        persistenceContext.addLoadedEntity(entity, readOnly);
+        statistics.recordEntityLoad();
+    }
+
     private <T> void validateQueryable(Class<T> entityClass, Object primaryKey) {
         validateOpen();
         if (entityClass == null) {
@@ -146,13 +248,19 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
     @Override
     public void remove(Object entity) {
         validateOpen();
+        validateWritable();
         persistenceContext.removeEntity(entity);
     }
 
     @Override
     public void flush() {
         validateFlushable();
+        if (jdbcTransaction.isReadOnly()) {
+            return;
+        }
+        long startedAt = statistics.startTimer();
         persistenceContext.flush(jdbcTransaction.getConnection());
+        statistics.recordFlush(startedAt);
     }
 
     private void validateFlushable() {
@@ -177,30 +285,237 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
             String jpql,
             Class<T> resultClass,
             Map<String, Object> namedParameters,
-            Map<Integer, Object> positionalParameters
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
     ) {
-        JpqlParser jpqlParser = new JpqlParser();
-        SelectStatement parsedStatement = jpqlParser.parse(jpql);
+        validateOpen();
+        boolean readOnly = isReadOnlyQuery(hints);
+        TranslatedQuery translatedQuery = queryPlanCache.getTranslatedQuery(jpql, rowBounds.toPageShape(false));
+        Class<T> mappedClass = resolveMappedClass(translatedQuery, resultClass);
+        Object[] parameters = resolveParameters(translatedQuery, namedParameters, positionalParameters, rowBounds);
 
-        QueryTranslator queryTranslator = new QueryTranslator(metadataRegistry);
-        TranslatedQuery translatedQuery = queryTranslator.translate(parsedStatement);
+        if (queryResultCache.isEnabled() && QueryHints.isEnabled(hints.get(QueryHints.CACHEABLE))) {
+            return executeCachedQuery(translatedQuery, mappedClass, parameters, readOnly);
+        }
+        return jdbcExecutor.executeQuery(
+                jdbcTransaction.getConnection(),
+                translatedQuery.sql(),
+                rs -> mapResultSet(rs, mappedClass, readOnly),
+                parameters,
+                translatedQuery.parameterBinder()::bind
+        );
+    }
 
-        try {
-            Connection connection = jdbcTransaction.getConnection();
-            PreparedStatement pstmt = connection.prepareStatement(translatedQuery.sql());
-
-            parameterBinder.bindQueryParameters(
-                    pstmt,
-                    translatedQuery.parameterOrder(),
-                    namedParameters,
-                    positionalParameters
+    private <T> List<T> executeCachedQuery(
+            TranslatedQuery translatedQuery,
+            Class<T> mappedClass,
+            Object[] parameters,
+            boolean readOnly
+    ) {
+        EntityMetadata metadata = metadataRegistry.getMetadata(mappedClass);
+        // flush 했지만 commit 전인 변경은 cache 된 결과(commit 된 상태)에 없으므로 조회도 저장도 하지 않는다
+        boolean cacheUsable = !persistenceContext.hasPendingTableChanges();
+        if (cacheUsable) {
+            List<Object> ids = queryResultCache.get(translatedQuery.sql(), parameters, metadata.getTableName());
+            if (ids != null) {
+                List<T> cachedResults = loadAllById(mappedClass, ids, readOnly);
+                if (cachedResults != null) {
+                    return cachedResults;
+                }
+            }
+        }
+
+        long queryStartedAt = System.nanoTime();
+        List<T> results = jdbcExecutor.executeQuery(
+                jdbcTransaction.getConnection(),
+                translatedQuery.sql(),
+                rs -> mapResultSet(rs, mappedClass, readOnly),
+                parameters,
+                translatedQuery.parameterBinder()::bind
+        );
+        if (cacheUsable) {
+            List<Object> resultIds = new ArrayList<>(results.size());
+            for (T result : results) {
+                resultIds.add(metadata.getIdentifierMetadata().getValue(result));
+            }
+            queryResultCache.put(translatedQuery.sql(), parameters, metadata.getTableName(), resultIds, queryStartedAt);
+        }
+        return results;
+    }
+
+    // cache 된 id 로 엔티티를 다시 찾는다, 그 사이 삭제된 row 가 있으면 null 을 반환해 query 를 다시 실행한다
+    // 1차/2차 캐시에 없는 id 는 findAll 처럼 IN 절로 묶어 조회한다
+    private <T> List<T> loadAllById(Class<T> entityClass, List<Object> ids, boolean readOnly) {
+        List<Object> missingIds = new ArrayList<>();
+        for (Object id : ids) {
+            if (persistenceContext.getEntity(entityClass, id) == null) {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            Map<Object, T> loaded = entityLoader.loadAll(jdbcTransaction.getConnection(), entityClass, missingIds);
+            for (T entity : loaded.values()) {
+                registerLoadedEntity(entity, readOnly);
+            }
+        }
+
+        List<T> results = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = persistenceContext.getEntity(entityClass, id);
+            if (entity == null) {
+                return null;
+            }
+            results.add(entity);
+        }
+        return results;
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> executeQueryAsync(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    ) {
+        validateOpen();
+        // 호출 뒤 query 의 파라미터를 바꿔도 영향이 없도록 복사해 둔다
+        Map<String, Object> namedParameterSnapshot = new HashMap<>(namedParameters);
+        Map<Integer, Object> positionalParameterSnapshot = new HashMap<>(positionalParameters);
+        Map<String, Object> hintSnapshot = new HashMap<>(hints);
+        return asyncQueryRunner.submit(entityManager -> entityManager.executeQuery(
+                jpql,
+                resultClass,
+                namedParameterSnapshot,
+                positionalParameterSnapshot,
+                hintSnapshot,
+                rowBounds
+        ));
+    }
+
+    @Override
+    public <T> ResultCursor<T> openCursor(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    ) {
+        validateOpen();
+        boolean detached = QueryHints.isEnabled(hints.get(QueryHints.DETACHED));
+        boolean readOnly = isReadOnlyQuery(hints);
+        TranslatedQuery translatedQuery = queryPlanCache.getTranslatedQuery(jpql, rowBounds.toPageShape(false));
+        Class<T> mappedClass = resolveMappedClass(translatedQuery, resultClass);
+
+        ResultSetCursor<T> cursor = jdbcExecutor.openCursor(
+                jdbcTransaction.getConnection(),
+                translatedQuery.sql(),
+                QueryHints.toInt(hints.get(QueryHints.FETCH_SIZE)),
+                createRowExtractor(mappedClass, detached, readOnly),
+                resolveParameters(translatedQuery, namedParameters, positionalParameters, rowBounds),
+                translatedQuery.parameterBinder()::bind
+        );
+        jdbcTransaction.registerResource(cursor);
+        cursor.setCloseCallback(() -> jdbcTransaction.releaseResource(cursor));
+        return cursor;
+    }
+
+    @Override
+    public <T> Page<T> executeQueryForPage(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    ) {
+        validateOpen();
+        boolean readOnly = isReadOnlyQuery(hints);
+        TranslatedQuery translatedQuery = queryPlanCache.getTranslatedQuery(jpql, rowBounds.toPageShape(true));
+        Class<T> mappedClass = resolveMappedClass(translatedQuery, resultClass);
+        Object[] parameters = parameterBinder.resolveQueryParameters(
+                translatedQuery.parameterOrder(),
+                namedParameters,
+                positionalParameters
+        );
+
+        long[] totalCount = new long[1];
+        List<T> content = jdbcExecutor.executeQuery(
+                jdbcTransaction.getConnection(),
+                translatedQuery.sql(),
+                rs -> mapPage(rs, mappedClass, readOnly, totalCount),
+                rowBounds.appendTo(parameters),
+                translatedQuery.parameterBinder()::bind
+        );
+
+        // 읽은 row 가 없으면 (offset 이 범위 밖이거나 maxResults 가 0) window 함수 값도 없으므로 따로 센다
+        if (content.isEmpty()) {
+            totalCount[0] = jdbcExecutor.executeQuery(
+                    jdbcTransaction.getConnection(),
+                    translatedQuery.countSql(),
+                    rs -> rs.next() ? rs.getLong(1) : 0L,
+                    parameters,
+                    translatedQuery.parameterBinder()::bind
             );
+        }
+        return new Page<>(content, totalCount[0], rowBounds.firstResult(), rowBounds.maxResults());
+    }
 
-            ResultSet resultSet = pstmt.executeQuery();
-            return mapResultSet(resultSet, resultClass);
-        } catch (SQLException e) {
-            throw new RuntimeException("Query execution failed", e);
+    private boolean isReadOnlyQuery(Map<String, Object> hints) {
+        return jdbcTransaction.isReadOnly() || QueryHints.isEnabled(hints.get(QueryHints.READ_ONLY));
+    }
+
+    private Object[] resolveParameters(
+            TranslatedQuery translatedQuery,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            RowBounds rowBounds
+    ) {
+        Object[] parameters = parameterBinder.resolveQueryParameters(
+                translatedQuery.parameterOrder(),
+                namedParameters,
+                positionalParameters
+        );
+        return rowBounds.appendTo(parameters);
+    }
+
+    // row mapper 는 첫 row 를 읽을 때 result set 모양으로 한 번만 찾는다
+    private <T> ResultSetExtractor<T> createRowExtractor(
+            Class<T> resultClass,
+            boolean detached,
+            boolean readOnly
+    ) {
+        EntityMetadata metadata = metadataRegistry.getMetadata(resultClass);
+        return new ResultSetExtractor<>() {
+            private EntityRowMapper<T> rowMapper;
+
+            @Override
+            public T extractData(ResultSet rs) throws SQLException {
+                if (rowMapper == null) {
+                    rowMapper = rowMapperCache.getRowMapper(metadata, rs);
+                }
+                if (detached) {
+                    statistics.recordEntityLoad();
+                    return rowMapper.mapRow(rs);
+                }
+                return createEntityByResultSet(rs, resultClass, rowMapper, readOnly);
+            }
+        };
+    }
+
+    // Query(Object.class) 는 plan 의 엔티티 타입으로 매핑한다
+    @SuppressWarnings("unchecked")
+    private <T> Class<T> resolveMappedClass(TranslatedQuery translatedQuery, Class<T> resultClass) {
+        Class<?> entityClass = translatedQuery.entityClass();
+        if (!resultClass.isAssignableFrom(entityClass)) {
+            throw new IllegalArgumentException(
+                    "Query result type " + entityClass.getName() + " is not assignable to " + resultClass.getName()
+            );
         }
+        return (Class<T>) entityClass;
     }
 
     @Override
@@ -217,41 +532,69 @@ public class EntityManagerImpl implements EntityManager, QueryExecutor {
 
     private <T> List<T> mapResultSet(
             ResultSet rs,
-            Class<T> resultClass
+            Class<T> resultClass,
+            boolean readOnly
     ) throws SQLException {
+        HydrationEvent event = new HydrationEvent();
+        event.begin();
         List<T> results = new ArrayList<>();
         EntityMetadata metadata = metadataRegistry.getMetadata(resultClass);
-        TypeConverter typeConverter = new TypeConverter();
+        EntityRowMapper<T> rowMapper = rowMapperCache.getRowMapper(metadata, rs);
 
         while (rs.next()) {
-            T entity = createEntityByResultSet(rs, resultClass, metadata, typeConverter);
-            results.add(entity);
+            results.add(createEntityByResultSet(rs, resultClass, rowMapper, readOnly));
         }
 
+        commitHydrationEvent(event, resultClass, results.size());
         return results;
     }
 
-    private <T> T createEntityByResultSet(
+    // 전체 건수는 마지막 컬럼에 모든 row 가 같은 값으로 들어 있다
+    private <T> List<T> mapPage(
             ResultSet rs,
             Class<T> resultClass,
-            EntityMetadata metadata,
-            TypeConverter typeConverter
+            boolean readOnly,
+            long[] totalCount
     ) throws SQLException {
-        T entity = findFromFirstCache(rs, resultClass, metadata);
-        if (entity == null) {
-            EntityResultSetExtractor<T> extractor = new EntityResultSetExtractor<>(metadata, typeConverter);
-            entity = extractor.extractData(rs);
-            persistenceContext.addEntity(entity);
+        HydrationEvent event = new HydrationEvent();
+        event.begin();
+        List<T> results = new ArrayList<>();
+        EntityRowMapper<T> rowMapper = rowMapperCache.getRowMapper(metadataRegistry.getMetadata(resultClass), rs);
+        int totalCountIndex = rs.getMetaData().getColumnCount();
+
+        while (rs.next()) {
+            if (results.isEmpty()) {
+                totalCount[0] = rs.getLong(totalCountIndex);
+            }
+            results.add(createEntityByResultSet(rs, resultClass, rowMapper, readOnly));
         }
-        return entity;
+
+        commitHydrationEvent(event, resultClass, results.size());
+        return results;
     }
 
-    private <T> T findFromFirstCache(
+    private void commitHydrationEvent(HydrationEvent event, Class<?> resultClass, int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.entityType = resultClass;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    private <T> T createEntityByResultSet(
             ResultSet rs,
             Class<T> resultClass,
-            EntityMetadata metadata
+            EntityRowMapper<T> rowMapper,
+            boolean readOnly
     ) throws SQLException {
-        Object id = rs.getObject(metadata.getIdentifierMetadata().getColumnName());
-        return persistenceContext.getEntity(resultClass, id);
+        // 1차 캐시에 있으면 나머지 컬럼은 읽지 않는다
+        Object id = rowMapper.readId(rs);
+        T entity = persistenceContext.getEntity(resultClass, id);
+        if (entity == null) {
+            entity = rowMapper.mapRow(rs, id);
+            registerLoadedEntity(entity, readOnly);
+        }
+        return entity;
     }
 }
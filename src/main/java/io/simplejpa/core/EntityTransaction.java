@@ -9,7 +9,15 @@ public interface EntityTransaction {
 
     boolean isActive();
 
+    // begin 전에 설정, 읽기 전용 트랜잭션은 flush 하지 않고 엔티티 snapshot 도 만들지 않는다
+    void setReadOnly(boolean readOnly);
+
+    boolean isReadOnly();
+
     void setFlushCallback(Runnable callback);
 
     void setClearCallback(Runnable callback);
+
+    // commit 이 끝난 뒤 실행, 2차 캐시 무효화에 사용
+    void setAfterCommitCallback(Runnable callback);
 }
@@ -1,14 +1,23 @@
 package io.simplejpa.core;
 
+import io.simplejpa.cache.secondlevel.SecondLevelCacheConfiguration;
+import io.simplejpa.engine.connection.ConnectionPoolConfiguration;
+import io.simplejpa.engine.jdbc.ExecutionListener;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Builder
 @Getter
 public class PersistenceConfiguration {
+    private static final int DEFAULT_QUERY_PLAN_CACHE_SIZE = 2048;
+    private static final int DEFAULT_MULTI_LOAD_BATCH_SIZE = 64;
+
     private final String url;
     private final String username;
     private final String password;
@@ -17,19 +26,81 @@ public class PersistenceConfiguration {
     @Singular // addEntityClass 생성
     private final Set<Class<?>> entityClasses;
 
+    private final ConnectionPoolConfiguration connectionPool; // null 이면 pool 없이 DriverManager 사용
+
+    private final int jdbcBatchSize; // 1 이하면 batch 사용 x
+
+    private final int statementCacheSize; // connection 당 cache 할 PreparedStatement 수, 0 이면 사용 x
+
+    private final int queryPlanCacheSize; // 0 이면 기본값 사용
+
+    private final boolean dynamicUpdate; // true 면 모든 엔티티를 @DynamicUpdate 처럼 변경된 컬럼만 UPDATE
+
+    private final SecondLevelCacheConfiguration secondLevelCache; // null 이면 2차 캐시 사용 x
+
+    private final int multiLoadBatchSize; // findAll 의 IN 절 최대 id 수, 0 이면 기본값 사용
+
+    private final boolean statisticsEnabled; // 시작 시 통계 수집 여부, 실행 중에도 변경 가능
+
+    @Singular // executionListener 로 하나씩 추가
+    private final List<ExecutionListener> executionListeners;
+
+    private final Duration slowQueryThreshold; // null 이면 slow query 로그 x
+
+    private final Executor asyncExecutor; // findAsync, getResultListAsync 실행, null 이면 virtual thread 사용
+
     public PersistenceConfiguration(
             String url,
             String username,
             String password,
             String driver,
-            Set<Class<?>> entityClasses
+            Set<Class<?>> entityClasses,
+            ConnectionPoolConfiguration connectionPool,
+            int jdbcBatchSize,
+            int statementCacheSize,
+            int queryPlanCacheSize,
+            boolean dynamicUpdate,
+            SecondLevelCacheConfiguration secondLevelCache,
+            int multiLoadBatchSize,
+            boolean statisticsEnabled,
+            List<ExecutionListener> executionListeners,
+            Duration slowQueryThreshold,
+            Executor asyncExecutor
     ) {
         validatePersistenceConfiguration(url, driver);
+        validateJdbcBatchSize(jdbcBatchSize);
+        validateStatementCacheSize(statementCacheSize);
+        validateQueryPlanCacheSize(queryPlanCacheSize);
+        validateMultiLoadBatchSize(multiLoadBatchSize);
+        validateSlowQueryThreshold(slowQueryThreshold);
         this.url = url;
         this.username = username;
         this.password = password;
         this.driver = driver;
         this.entityClasses = entityClasses;
+        this.connectionPool = connectionPool;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.statementCacheSize = statementCacheSize;
+        this.queryPlanCacheSize = queryPlanCacheSize == 0 ? DEFAULT_QUERY_PLAN_CACHE_SIZE : queryPlanCacheSize;
+        this.dynamicUpdate = dynamicUpdate;
+        this.secondLevelCache = secondLevelCache;
+        this.multiLoadBatchSize = multiLoadBatchSize == 0 ? DEFAULT_MULTI_LOAD_BATCH_SIZE : multiLoadBatchSize;
+        this.statisticsEnabled = statisticsEnabled;
+        this.executionListeners = executionListeners == null ? List.of() : List.copyOf(executionListeners);
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public boolean isConnectionPoolEnabled() {
+        return connectionPool != null;
+    }
+
+    public boolean isSecondLevelCacheEnabled() {
+        return secondLevelCache != null;
+    }
+
+    public boolean isSlowQueryLogEnabled() {
+        return slowQueryThreshold != null;
     }
 
     private void validatePersistenceConfiguration(String url, String driver) {
@@ -40,4 +111,34 @@ public class PersistenceConfiguration {
             throw new IllegalArgumentException("Driver class name cannot be null");
         }
     }
+
+    private void validateJdbcBatchSize(int jdbcBatchSize) {
+        if (jdbcBatchSize < 0) {
+            throw new IllegalArgumentException("JDBC batch size cannot be negative");
+        }
+    }
+
+    private void validateStatementCacheSize(int statementCacheSize) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size cannot be negative");
+        }
+    }
+
+    private void validateQueryPlanCacheSize(int queryPlanCacheSize) {
+        if (queryPlanCacheSize < 0) {
+            throw new IllegalArgumentException("Query plan cache size cannot be negative");
+        }
+    }
+
+    private void validateMultiLoadBatchSize(int multiLoadBatchSize) {
+        if (multiLoadBatchSize < 0) {
+            throw new IllegalArgumentException("Multi load batch size cannot be negative");
+        }
+    }
+
+    private void validateSlowQueryThreshold(Duration slowQueryThreshold) {
+        if (slowQueryThreshold != null && slowQueryThreshold.isNegative()) {
+            throw new IllegalArgumentException("Slow query threshold cannot be negative");
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package io.simplejpa.engine.connection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Getter
+public class ConnectionPoolConfiguration {
+    private static final int DEFAULT_MIN_SIZE = 1;
+    private static final int DEFAULT_MAX_SIZE = 10;
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_VALIDATION_TIMEOUT = Duration.ofSeconds(5);
+
+    private final int minSize;
+    private final int maxSize;
+    private final Duration acquireTimeout;
+    private final Duration idleTimeout;
+    private final Duration validationTimeout;
+    private final boolean validateOnBorrow;
+
+    @Builder
+    public ConnectionPoolConfiguration(
+            Integer minSize,
+            Integer maxSize,
+            Duration acquireTimeout,
+            Duration idleTimeout,
+            Duration validationTimeout,
+            Boolean validateOnBorrow
+    ) {
+        this.minSize = Objects.requireNonNullElse(minSize, DEFAULT_MIN_SIZE);
+        this.maxSize = Objects.requireNonNullElse(maxSize, DEFAULT_MAX_SIZE);
+        this.acquireTimeout = Objects.requireNonNullElse(acquireTimeout, DEFAULT_ACQUIRE_TIMEOUT);
+        this.idleTimeout = Objects.requireNonNullElse(idleTimeout, DEFAULT_IDLE_TIMEOUT);
+        this.validationTimeout = Objects.requireNonNullElse(validationTimeout, DEFAULT_VALIDATION_TIMEOUT);
+        this.validateOnBorrow = Objects.requireNonNullElse(validateOnBorrow, true);
+        validatePoolSize();
+    }
+
+    private void validatePoolSize() {
+        if (minSize < 0) {
+            throw new IllegalArgumentException("Minimum pool size cannot be negative");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum pool size must be at least 1");
+        }
+        if (minSize > maxSize) {
+            throw new IllegalArgumentException("Minimum pool size cannot exceed maximum pool size");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfiguration{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", acquireTimeout=" + acquireTimeout +
+                ", idleTimeout=" + idleTimeout +
+                ", validationTimeout=" + validationTimeout +
+                ", validateOnBorrow=" + validateOnBorrow +
+                '}';
+    }
+}
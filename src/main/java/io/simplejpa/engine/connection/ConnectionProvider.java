@@ -2,10 +2,14 @@ package io.simplejpa.engine.connection;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Consumer;
 
 public interface ConnectionProvider {
     Connection getConnection() throws SQLException;
     void closeConnection(Connection connection) throws SQLException;
     boolean supportsAggressiveRelease();
     void shutDown();
+
+    // 물리 connection 이 닫히기 직전에 호출된다
+    void setCloseCallback(Consumer<Connection> callback);
 }
@@ -6,10 +6,12 @@ import lombok.extern.slf4j.Slf4j;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.function.Consumer;
 
 @Slf4j
 public class DriverManagerConnectionProvider implements ConnectionProvider {
     private final ConnectionConfiguration configuration;
+    private Consumer<Connection> closeCallback;
 
     public DriverManagerConnectionProvider(ConnectionConfiguration configuration) {
         this.configuration = configuration;
@@ -35,7 +37,14 @@ public class DriverManagerConnectionProvider implements ConnectionProvider {
 
     @Override
     public void closeConnection(Connection connection) throws SQLException {
-        if (connection != null && !connection.isClosed()) {
+        if (connection == null) {
+            return;
+        }
+        // 이미 닫혔거나 끊긴 connection 도 statement cache 는 정리해야 하므로 isClosed 와 상관없이 호출
+        if (closeCallback != null) {
+            closeCallback.accept(connection);
+        }
+        if (!connection.isClosed()) {
             try {
                 connection.close();
             } catch (SQLException e) {
@@ -52,6 +61,11 @@ public class DriverManagerConnectionProvider implements ConnectionProvider {
 
     @Override
     public void shutDown() {
-        // connection pool 이 아직 없으므로 필요 x
+        // pool 을 사용하지 않으므로 필요 x (PooledConnectionProvider 참고)
+    }
+
+    @Override
+    public void setCloseCallback(Consumer<Connection> callback) {
+        this.closeCallback = callback;
     }
 }
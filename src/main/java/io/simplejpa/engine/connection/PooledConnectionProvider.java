@@ -0,0 +1,230 @@
+package io.simplejpa.engine.connection;
+
+import io.simplejpa.exception.JdbcException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * bounded connection pool
+ */
+@Slf4j
+public class PooledConnectionProvider implements ConnectionProvider {
+    private static final long MIN_EVICTION_INTERVAL_MILLIS = 1_000L;
+
+    private final ConnectionProvider physicalConnectionProvider;
+    private final ConnectionPoolConfiguration poolConfiguration;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<Connection, PooledConnection> leasedConnections = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+    private final AtomicBoolean open = new AtomicBoolean(true);
+
+    public PooledConnectionProvider(
+            ConnectionProvider physicalConnectionProvider,
+            ConnectionPoolConfiguration poolConfiguration
+    ) {
+        this.physicalConnectionProvider = physicalConnectionProvider;
+        this.poolConfiguration = poolConfiguration;
+        this.permits = new Semaphore(poolConfiguration.getMaxSize(), true);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simple-jpa-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fillToMinSize();
+        scheduleEviction();
+        log.info("PooledConnectionProvider initialized: {}", poolConfiguration);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        validateOpen();
+        acquirePermit();
+        try {
+            PooledConnection pooledConnection = borrowIdleOrCreate();
+            leasedConnections.put(pooledConnection.connection(), pooledConnection);
+            return pooledConnection.connection();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        long timeoutMillis = poolConfiguration.getAcquireTimeout().toMillis();
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + timeoutMillis + "ms waiting for a pooled connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+    }
+
+    private PooledConnection borrowIdleOrCreate() throws SQLException {
+        PooledConnection idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            if (isUsable(idle.connection())) {
+                return idle;
+            }
+            destroy(idle.connection());
+        }
+        return new PooledConnection(physicalConnectionProvider.getConnection(), System.nanoTime());
+    }
+
+    private boolean isUsable(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!poolConfiguration.isValidateOnBorrow()) {
+                return true;
+            }
+            int timeoutSeconds = (int) Math.max(1, poolConfiguration.getValidationTimeout().toSeconds());
+            return connection.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            log.warn("Failed to validate pooled connection", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        PooledConnection leased = leasedConnections.remove(connection);
+        if (leased == null) {
+            log.warn("Connection was not leased from this pool, closing it");
+            physicalConnectionProvider.closeConnection(connection);
+            return;
+        }
+        try {
+            if (open.get() && resetForReuse(connection)) {
+                idleConnections.offerFirst(new PooledConnection(connection, System.nanoTime()));
+            } else {
+                destroy(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean resetForReuse(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Failed to reset pooled connection, discarding it", e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return true; // 반납 비용이 낮으므로 트랜잭션 종료 시 즉시 반납
+    }
+
+    @Override
+    public void shutDown() {
+        if (!open.compareAndSet(true, false)) {
+            return;
+        }
+        evictor.shutdownNow();
+        PooledConnection idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            destroy(idle.connection());
+        }
+        if (!leasedConnections.isEmpty()) {
+            log.warn("Pool shut down with {} leased connections, they will be closed on release",
+                    leasedConnections.size());
+        }
+        log.info("PooledConnectionProvider shut down");
+    }
+
+    @Override
+    public void setCloseCallback(Consumer<Connection> callback) {
+        physicalConnectionProvider.setCloseCallback(callback);
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getActiveCount() {
+        return leasedConnections.size();
+    }
+
+    private void validateOpen() {
+        if (!open.get()) {
+            throw new IllegalStateException("Connection pool is shut down");
+        }
+    }
+
+    private void fillToMinSize() {
+        try {
+            while (getTotalCount() < poolConfiguration.getMinSize()) {
+                idleConnections.offerLast(new PooledConnection(physicalConnectionProvider.getConnection(), System.nanoTime()));
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to fill connection pool to minimum size", e);
+        }
+    }
+
+    private void scheduleEviction() {
+        long intervalMillis = Math.max(MIN_EVICTION_INTERVAL_MILLIS, poolConfiguration.getIdleTimeout().toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evictIdleConnections() {
+        long idleTimeoutNanos = poolConfiguration.getIdleTimeout().toNanos();
+        long now = System.nanoTime();
+        // 오래 쉰 connection 부터 (deque 의 뒤쪽)
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext() && getTotalCount() > poolConfiguration.getMinSize()) {
+            PooledConnection idle = iterator.next();
+            if (now - idle.lastUsedNanos() > idleTimeoutNanos && idleConnections.remove(idle)) {
+                destroy(idle.connection());
+                log.debug("idle connection evicted");
+            }
+        }
+    }
+
+    private int getTotalCount() {
+        return idleConnections.size() + leasedConnections.size();
+    }
+
+    private void destroy(Connection connection) {
+        try {
+            physicalConnectionProvider.closeConnection(connection);
+        } catch (SQLException e) {
+            log.warn("Failed to close pooled connection", e);
+        }
+    }
+
+    private record PooledConnection(Connection connection, long lastUsedNanos) {
+    }
+}
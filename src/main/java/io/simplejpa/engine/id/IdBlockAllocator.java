@@ -0,0 +1,12 @@
+package io.simplejpa.engine.id;
+
+import java.sql.Connection;
+
+/**
+ * sequence, 테이블에서 다음 값을 한 번 가져온다.
+ * 돌려준 값을 블록으로 해석하는 건 PooledIdentifierGenerator 의 몫이다.
+ */
+@FunctionalInterface
+public interface IdBlockAllocator {
+    long allocate(Connection connection);
+}
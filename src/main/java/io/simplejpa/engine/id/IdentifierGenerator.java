@@ -0,0 +1,8 @@
+package io.simplejpa.engine.id;
+
+import java.sql.Connection;
+
+public interface IdentifierGenerator {
+    // connection 은 persist 한 EntityManager 의 트랜잭션 connection
+    Object generate(Connection connection);
+}
@@ -0,0 +1,61 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.annotation.IdOptimizer;
+import io.simplejpa.engine.connection.ConnectionProvider;
+import io.simplejpa.engine.jdbc.JdbcExecutor;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdGenerationMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티 타입별 id generator, factory 범위에서 공유한다.
+ * IDENTITY 엔티티는 INSERT 후에 id 를 받으므로 generator 가 없다.
+ */
+public class IdentifierGeneratorRegistry {
+    private final ConnectionProvider connectionProvider;
+    private final JdbcExecutor jdbcExecutor;
+    private final Map<Class<?>, IdentifierGenerator> generators = new ConcurrentHashMap<>();
+
+    public IdentifierGeneratorRegistry(ConnectionProvider connectionProvider, JdbcExecutor jdbcExecutor) {
+        this.connectionProvider = connectionProvider;
+        this.jdbcExecutor = jdbcExecutor;
+    }
+
+    // id 가 비어 있으면 채운다, 직접 넣은 id 는 그대로 둔다
+    public void assignIdentifier(EntityMetadata metadata, Object entity, Connection connection) {
+        IdentifierMetadata identifierMetadata = metadata.getIdentifierMetadata();
+        if (identifierMetadata.isPostInsertGenerated() || identifierMetadata.isAssigned(entity)) {
+            return;
+        }
+        IdentifierGenerator generator = generators.computeIfAbsent(
+                metadata.getEntityClass(),
+                entityClass -> createGenerator(identifierMetadata)
+        );
+        identifierMetadata.setValue(entity, generator.generate(connection));
+    }
+
+    private IdentifierGenerator createGenerator(IdentifierMetadata identifierMetadata) {
+        IdGenerationMetadata generation = identifierMetadata.getGeneration();
+        IdBlockAllocator allocator = switch (generation.strategy()) {
+            case SEQUENCE -> new SequenceIdAllocator(jdbcExecutor, generation.sequenceName());
+            case TABLE -> new TableIdAllocator(
+                    connectionProvider,
+                    jdbcExecutor,
+                    generation.table(),
+                    generation.sequenceName(),
+                    generation.optimizer() == IdOptimizer.HILO ? 1 : generation.allocationSize()
+            );
+            case IDENTITY -> throw new IllegalStateException("IDENTITY ids are generated by the database");
+        };
+        return new PooledIdentifierGenerator(
+                allocator,
+                generation.allocationSize(),
+                generation.optimizer(),
+                identifierMetadata.getJavaType()
+        );
+    }
+}
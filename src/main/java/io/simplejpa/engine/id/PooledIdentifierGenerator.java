@@ -0,0 +1,75 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.annotation.IdOptimizer;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 에서 allocationSize 개의 id 블록을 한 번에 받아 메모리에서 나눠 준다.
+ * factory 범위에서 공유하며, 블록 안에서는 CAS 한 번으로 id 를 꺼내고 블록이 바닥났을 때만 lock 을 잡는다.
+ */
+public class PooledIdentifierGenerator implements IdentifierGenerator {
+    private final IdBlockAllocator allocator;
+    private final int allocationSize;
+    private final IdOptimizer optimizer;
+    private final Class<?> idType;
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private volatile IdBlock current = new IdBlock(new AtomicLong(), 0L);
+
+    public PooledIdentifierGenerator(
+            IdBlockAllocator allocator,
+            int allocationSize,
+            IdOptimizer optimizer,
+            Class<?> idType
+    ) {
+        validateIdType(idType);
+        this.allocator = allocator;
+        this.allocationSize = allocationSize;
+        this.optimizer = optimizer;
+        this.idType = idType;
+    }
+
+    private void validateIdType(Class<?> idType) {
+        if (idType != Long.class && idType != long.class && idType != Integer.class && idType != int.class) {
+            throw new IllegalArgumentException("Generated id must be Long or Integer, but was " + idType.getName());
+        }
+    }
+
+    @Override
+    public Object generate(Connection connection) {
+        while (true) {
+            IdBlock block = current;
+            long value = block.next().getAndIncrement();
+            if (value < block.end()) {
+                return toIdType(value);
+            }
+            allocationLock.lock();
+            try {
+                // 다른 스레드가 이미 새 블록을 받아 왔으면 그대로 사용
+                if (current == block) {
+                    current = allocateBlock(connection);
+                }
+            } finally {
+                allocationLock.unlock();
+            }
+        }
+    }
+
+    private IdBlock allocateBlock(Connection connection) {
+        long value = allocator.allocate(connection);
+        long start = optimizer == IdOptimizer.HILO ? value * allocationSize : value;
+        return new IdBlock(new AtomicLong(start), start + allocationSize);
+    }
+
+    private Object toIdType(long value) {
+        if (idType == Long.class || idType == long.class) {
+            return value;
+        }
+        return Math.toIntExact(value);
+    }
+
+    private record IdBlock(AtomicLong next, long end) {
+    }
+}
@@ -0,0 +1,27 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.engine.jdbc.JdbcExecutor;
+
+import java.sql.Connection;
+
+/**
+ * SQL 표준 NEXT VALUE FOR 로 sequence 값을 가져온다. (H2, HSQLDB, SQL Server, Derby 등)
+ * sequence 는 트랜잭션과 무관하므로 persist 한 트랜잭션의 connection 을 그대로 사용한다.
+ */
+public class SequenceIdAllocator implements IdBlockAllocator {
+    private final JdbcExecutor jdbcExecutor;
+    private final String nextValueSql;
+
+    public SequenceIdAllocator(JdbcExecutor jdbcExecutor, String sequenceName) {
+        this.jdbcExecutor = jdbcExecutor;
+        this.nextValueSql = "SELECT NEXT VALUE FOR " + sequenceName;
+    }
+
+    @Override
+    public long allocate(Connection connection) {
+        return jdbcExecutor.executeQuery(connection, nextValueSql, rs -> {
+            rs.next();
+            return rs.getLong(1);
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.engine.connection.ConnectionProvider;
+import io.simplejpa.engine.jdbc.JdbcExecutor;
+import io.simplejpa.exception.JdbcException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * (sequence_name, next_val) 테이블에서 increment 만큼 값을 예약한다.
+ * persist 한 트랜잭션이 rollback 되어도 예약은 유지되어야 하므로 별도 connection 에서 바로 commit 한다.
+ * connectionProvider 는 pool 이 아닌 물리 provider 여야 한다. (persist 중인 트랜잭션이 pool 의 connection 을 이미 잡고 있다)
+ * 동시 할당은 next_val 을 조건으로 거는 UPDATE 로 감지하고 다시 시도한다.
+ */
+@Slf4j
+public class TableIdAllocator implements IdBlockAllocator {
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long INITIAL_VALUE = 1L;
+
+    private final ConnectionProvider connectionProvider;
+    private final JdbcExecutor jdbcExecutor;
+    private final String sequenceName;
+    private final int increment;
+    private final String selectSql;
+    private final String updateSql;
+    private final String insertSql;
+
+    public TableIdAllocator(
+            ConnectionProvider connectionProvider,
+            JdbcExecutor jdbcExecutor,
+            String tableName,
+            String sequenceName,
+            int increment
+    ) {
+        this.connectionProvider = connectionProvider;
+        this.jdbcExecutor = jdbcExecutor;
+        this.sequenceName = sequenceName;
+        this.increment = increment;
+        this.selectSql = "SELECT next_val FROM " + tableName + " WHERE sequence_name = ?";
+        this.updateSql = "UPDATE " + tableName + " SET next_val = ? WHERE sequence_name = ? AND next_val = ?";
+        this.insertSql = "INSERT INTO " + tableName + "(sequence_name, next_val) VALUES(?, ?)";
+    }
+
+    @Override
+    public long allocate(Connection ignored) {
+        Connection connection = null;
+        try {
+            connection = connectionProvider.getConnection();
+            connection.setAutoCommit(false);
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                Long reserved = tryReserve(connection);
+                if (reserved != null) {
+                    return reserved;
+                }
+            }
+            throw new JdbcException("Failed to reserve ids for " + sequenceName + " after " + MAX_ATTEMPTS + " attempts");
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to reserve ids for " + sequenceName, e);
+        } finally {
+            release(connection);
+        }
+    }
+
+    // 다른 스레드, 프로세스와 경합해 실패하면 null
+    private Long tryReserve(Connection connection) throws SQLException {
+        try {
+            Long nextValue = jdbcExecutor.executeQuery(
+                    connection,
+                    selectSql,
+                    rs -> rs.next() ? rs.getLong(1) : null,
+                    sequenceName
+            );
+            if (nextValue == null) {
+                jdbcExecutor.executeUpdate(connection, insertSql, sequenceName, INITIAL_VALUE + increment);
+                connection.commit();
+                return INITIAL_VALUE;
+            }
+            int updated = jdbcExecutor.executeUpdate(connection, updateSql, nextValue + increment, sequenceName, nextValue);
+            connection.commit();
+            return updated == 1 ? nextValue : null;
+        } catch (JdbcException e) {
+            log.debug("id reservation conflict on {}, retrying", sequenceName, e);
+            connection.rollback();
+            return null;
+        }
+    }
+
+    private void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.setAutoCommit(true);
+            connectionProvider.closeConnection(connection);
+        } catch (SQLException e) {
+            log.warn("Failed to release id allocation connection", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.metadata.accessor.PropertyAccessor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 엔티티 필드 값을 바로 PreparedStatement 에 바인딩
+ * primitive 필드는 타입별 accessor 로 읽어 boxing 없이 바인딩한다.
+ */
+@FunctionalInterface
+public interface AttributeBinder {
+    void bind(PreparedStatement pstmt, int index, Object entity) throws SQLException;
+
+    static AttributeBinder create(Class<?> javaType, PropertyAccessor accessor) {
+        if (javaType == long.class) {
+            return (pstmt, index, entity) -> pstmt.setLong(index, accessor.getLong(entity));
+        }
+        if (javaType == int.class) {
+            return (pstmt, index, entity) -> pstmt.setInt(index, accessor.getInt(entity));
+        }
+        if (javaType == double.class) {
+            return (pstmt, index, entity) -> pstmt.setDouble(index, accessor.getDouble(entity));
+        }
+        if (javaType == boolean.class) {
+            return (pstmt, index, entity) -> pstmt.setBoolean(index, accessor.getBoolean(entity));
+        }
+        ValueBinder valueBinder = ValueBinder.forType(javaType);
+        return (pstmt, index, entity) -> valueBinder.bind(pstmt, index, accessor.get(entity));
+    }
+}
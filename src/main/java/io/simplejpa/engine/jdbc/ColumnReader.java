@@ -0,0 +1,64 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.util.TypeConverter;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 컬럼 index 로 값을 읽는 타입별 reader
+ */
+@FunctionalInterface
+public interface ColumnReader {
+    Object read(ResultSet rs, int columnIndex) throws SQLException;
+
+    static ColumnReader forType(Class<?> javaType, TypeConverter typeConverter) {
+        if (javaType == String.class) {
+            return ResultSet::getString;
+        }
+        if (javaType == Long.class || javaType == long.class) {
+            return (rs, index) -> {
+                long value = rs.getLong(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (javaType == Integer.class || javaType == int.class) {
+            return (rs, index) -> {
+                int value = rs.getInt(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (javaType == Double.class || javaType == double.class) {
+            return (rs, index) -> {
+                double value = rs.getDouble(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (javaType == Boolean.class || javaType == boolean.class) {
+            return (rs, index) -> {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (javaType == LocalDateTime.class) {
+            return (rs, index) -> {
+                Timestamp value = rs.getTimestamp(index);
+                return value == null ? null : value.toLocalDateTime();
+            };
+        }
+        if (javaType == LocalDate.class) {
+            return (rs, index) -> {
+                Date value = rs.getDate(index);
+                return value == null ? null : value.toLocalDate();
+            };
+        }
+        return (rs, index) -> {
+            Object value = rs.getObject(index);
+            return value == null ? null : typeConverter.convertType(value, javaType);
+        };
+    }
+}
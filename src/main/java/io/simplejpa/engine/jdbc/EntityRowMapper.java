@@ -0,0 +1,89 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.exception.JdbcException;
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
+import io.simplejpa.metadata.accessor.PropertyAccessor;
+import io.simplejpa.util.TypeConverter;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * (엔티티, result set 모양) 마다 한 번 만들어 재사용하는 row mapper
+ * 컬럼 index 와 타입별 reader 를 미리 계산해 두고 row 마다 index 로만 읽는다.
+ */
+public class EntityRowMapper<T> {
+    private final EntityMetadata metadata;
+    private final int idColumnIndex;
+    private final ColumnReader idReader;
+    private final int[] columnIndexes;
+    private final ColumnReader[] columnReaders;
+    private final PropertyAccessor[] accessors;
+
+    public EntityRowMapper(
+            EntityMetadata metadata,
+            ResultSetMetaData resultSetMetaData,
+            TypeConverter typeConverter
+    ) throws SQLException {
+        Map<String, Integer> columnIndexByLabel = indexColumns(resultSetMetaData);
+        IdentifierMetadata identifierMetadata = metadata.getIdentifierMetadata();
+        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
+
+        this.metadata = metadata;
+        this.idColumnIndex = resolveColumnIndex(columnIndexByLabel, identifierMetadata.getColumnName());
+        this.idReader = ColumnReader.forType(identifierMetadata.getJavaType(), typeConverter);
+        this.columnIndexes = new int[attributeMetadatas.size()];
+        this.columnReaders = new ColumnReader[attributeMetadatas.size()];
+        this.accessors = new PropertyAccessor[attributeMetadatas.size()];
+        for (int i = 0; i < attributeMetadatas.size(); i++) {
+            AttributeMetadata attr = attributeMetadatas.get(i);
+            columnIndexes[i] = resolveColumnIndex(columnIndexByLabel, attr.getColumnName());
+            columnReaders[i] = ColumnReader.forType(attr.getJavaType(), typeConverter);
+            accessors[i] = attr.getAccessor();
+        }
+    }
+
+    // DB 마다 컬럼 label 의 대소문자가 다르므로 대소문자를 무시한다
+    private Map<String, Integer> indexColumns(ResultSetMetaData resultSetMetaData) throws SQLException {
+        Map<String, Integer> columnIndexByLabel = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+            columnIndexByLabel.putIfAbsent(resultSetMetaData.getColumnLabel(i), i);
+        }
+        return columnIndexByLabel;
+    }
+
+    private int resolveColumnIndex(Map<String, Integer> columnIndexByLabel, String columnName) {
+        Integer index = columnIndexByLabel.get(columnName);
+        if (index == null) {
+            throw new JdbcException("Column not found in result set: " + columnName.toLowerCase(Locale.ROOT)
+                    + " (" + metadata.getEntityName() + ")");
+        }
+        return index;
+    }
+
+    public Object readId(ResultSet rs) throws SQLException {
+        return idReader.read(rs, idColumnIndex);
+    }
+
+    public T mapRow(ResultSet rs) throws SQLException {
+        return mapRow(rs, readId(rs));
+    }
+
+    // 1차 캐시 확인을 위해 이미 읽은 id 를 다시 읽지 않는다
+    @SuppressWarnings("unchecked")
+    public T mapRow(ResultSet rs, Object id) throws SQLException {
+        Object entity = metadata.newInstance();
+        metadata.getIdentifierMetadata().setValue(entity, id);
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i].set(entity, columnReaders[i].read(rs, columnIndexes[i]));
+        }
+        return (T) entity;
+    }
+}
@@ -0,0 +1,41 @@
+package io.simplejpa.engine.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * statement 한 번의 실행 정보
+ *
+ * @param parameterCount SQL 의 '?' 개수
+ * @param batchSize      batch 로 실행한 row 수, batch 가 아니면 1
+ * @param rowsAffected   변경된 row 수, SELECT 이거나 driver 가 알려주지 않으면 -1
+ * @param connectionId   같은 connection 에서 실행한 statement 끼리 묶기 위한 식별자
+ */
+public record ExecutionInfo(
+        String sql,
+        int parameterCount,
+        int batchSize,
+        long rowsAffected,
+        long elapsedNanos,
+        int connectionId,
+        SQLException failure
+) {
+    public static final long UNKNOWN_ROWS = -1L;
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public static int countParameters(String sql) {
+        int count = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
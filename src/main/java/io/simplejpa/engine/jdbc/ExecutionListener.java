@@ -0,0 +1,21 @@
+package io.simplejpa.engine.jdbc;
+
+/**
+ * JdbcExecutor 가 statement 를 실행하기 전후에 호출하는 listener
+ * statement 를 실행한 스레드에서 바로 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 한다.
+ * listener 에서 발생한 예외는 로그만 남기고 실행에는 영향을 주지 않는다.
+ */
+public interface ExecutionListener {
+
+    // elapsedNanos, rowsAffected 는 아직 알 수 없으므로 0, -1
+    default void beforeExecute(ExecutionInfo executionInfo) {
+    }
+
+    // 실행에 실패했으면 executionInfo.failure() 에 예외가 담긴다
+    default void afterExecute(ExecutionInfo executionInfo) {
+    }
+
+    // EntityManagerFactory 를 닫을 때 호출
+    default void close() {
+    }
+}
@@ -1,36 +1,88 @@
 package io.simplejpa.engine.jdbc;
 
 import io.simplejpa.exception.JdbcException;
+import io.simplejpa.jfr.StatementExecutionEvent;
+import io.simplejpa.stat.Statistics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
 public class JdbcExecutor {
     private final ParameterBinder parameterBinder;
+    private final StatementCacheRegistry statementCacheRegistry;
+    private final Statistics statistics;
+    private final ExecutionListener[] executionListeners;
 
     public JdbcExecutor(ParameterBinder parameterBinder) {
+        this(parameterBinder, new StatementCacheRegistry(0));
+    }
+
+    public JdbcExecutor(
+            ParameterBinder parameterBinder,
+            StatementCacheRegistry statementCacheRegistry
+    ) {
+        this(parameterBinder, statementCacheRegistry, new Statistics(false));
+    }
+
+    public JdbcExecutor(
+            ParameterBinder parameterBinder,
+            StatementCacheRegistry statementCacheRegistry,
+            Statistics statistics
+    ) {
+        this(parameterBinder, statementCacheRegistry, statistics, List.of());
+    }
+
+    public JdbcExecutor(
+            ParameterBinder parameterBinder,
+            StatementCacheRegistry statementCacheRegistry,
+            Statistics statistics,
+            List<ExecutionListener> executionListeners
+    ) {
         this.parameterBinder = parameterBinder;
+        this.statementCacheRegistry = statementCacheRegistry;
+        this.statistics = statistics;
+        this.executionListeners = executionListeners.toArray(ExecutionListener[]::new);
     }
 
     public Object executeInsert(
             Connection connection,
             String sql,
             Object... params
+    ) {
+        return executeInsert(connection, sql, params, parameterBinder::bind);
+    }
+
+    public <S> Object executeInsert(
+            Connection connection,
+            String sql,
+            S source,
+            ParameterSetter<S> parameterSetter
     ) {
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         try {
-            pstmt = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS);
+            pstmt = prepareStatement(connection, sql, true);
 
-            parameterBinder.bind(pstmt, params);
+            parameterSetter.setValues(pstmt, source);
 
-            pstmt.executeUpdate();
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            int updateCount;
+            try {
+                updateCount = pstmt.executeUpdate();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, updateCount, startedAt, event);
 
             rs = pstmt.getGeneratedKeys();
             if (rs.next()) {
@@ -41,8 +93,141 @@ public class JdbcExecutor {
         } catch (SQLException e) {
             throw new JdbcException("Failed to execute insert: " + sql, e);
         } finally {
-            closePrepareStatement(pstmt);
             closeResultSet(rs);
+            releaseStatement(pstmt);
+        }
+    }
+
+    public List<Object> executeInsertBatch(
+            Connection connection,
+            String sql,
+            List<Object[]> batchParams
+    ) {
+        return executeInsertBatch(connection, sql, batchParams, parameterBinder::bind);
+    }
+
+    public <S> List<Object> executeInsertBatch(
+            Connection connection,
+            String sql,
+            List<S> batchParams,
+            ParameterSetter<S> parameterSetter
+    ) {
+        if (!supportsBatchWithGeneratedKeys(connection)) {
+            List<Object> generatedKeys = new ArrayList<>();
+            for (S params : batchParams) {
+                generatedKeys.add(executeInsert(connection, sql, params, parameterSetter));
+            }
+            return generatedKeys;
+        }
+
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            pstmt = prepareStatement(connection, sql, true);
+            addBatch(pstmt, batchParams, parameterSetter);
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, batchParams.size(), event);
+            int[] updateCounts;
+            try {
+                updateCounts = pstmt.executeBatch();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, batchParams.size(), startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, batchParams.size(), sumUpdateCounts(updateCounts), startedAt, event);
+
+            rs = pstmt.getGeneratedKeys();
+            List<Object> generatedKeys = new ArrayList<>();
+            while (rs.next()) {
+                generatedKeys.add(rs.getObject(1));
+            }
+            if (generatedKeys.size() != batchParams.size()) {
+                log.warn("Driver returned {} generated keys for a batch of {} rows: {}",
+                        generatedKeys.size(), batchParams.size(), sql);
+                return Collections.nCopies(batchParams.size(), null);
+            }
+            return generatedKeys;
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to execute insert batch: " + sql, e);
+        } finally {
+            closeResultSet(rs);
+            clearBatch(pstmt);
+            releaseStatement(pstmt);
+        }
+    }
+
+    public int[] executeBatch(
+            Connection connection,
+            String sql,
+            List<Object[]> batchParams
+    ) {
+        return executeBatch(connection, sql, batchParams, parameterBinder::bind);
+    }
+
+    public <S> int[] executeBatch(
+            Connection connection,
+            String sql,
+            List<S> batchParams,
+            ParameterSetter<S> parameterSetter
+    ) {
+        if (!supportsBatchUpdates(connection)) {
+            int[] updateCounts = new int[batchParams.size()];
+            for (int i = 0; i < batchParams.size(); i++) {
+                updateCounts[i] = executeUpdate(connection, sql, batchParams.get(i), parameterSetter);
+            }
+            return updateCounts;
+        }
+
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = prepareStatement(connection, sql, false);
+            addBatch(pstmt, batchParams, parameterSetter);
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, batchParams.size(), event);
+            int[] updateCounts;
+            try {
+                updateCounts = pstmt.executeBatch();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, batchParams.size(), startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, batchParams.size(), sumUpdateCounts(updateCounts), startedAt, event);
+            return updateCounts;
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to execute batch: " + sql, e);
+        } finally {
+            clearBatch(pstmt);
+            releaseStatement(pstmt);
+        }
+    }
+
+    private <S> void addBatch(
+            PreparedStatement pstmt,
+            List<S> batchParams,
+            ParameterSetter<S> parameterSetter
+    ) throws SQLException {
+        for (S params : batchParams) {
+            parameterSetter.setValues(pstmt, params);
+            pstmt.addBatch();
+        }
+    }
+
+    private boolean supportsBatchUpdates(Connection connection) {
+        try {
+            return connection.getMetaData().supportsBatchUpdates();
+        } catch (SQLException e) {
+            log.warn("Failed to read batch support from driver metadata", e);
+            return false;
+        }
+    }
+
+    private boolean supportsBatchWithGeneratedKeys(Connection connection) {
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return metaData.supportsBatchUpdates() && metaData.supportsGetGeneratedKeys();
+        } catch (SQLException e) {
+            log.warn("Failed to read generated key support from driver metadata", e);
+            return false;
         }
     }
 
@@ -50,16 +235,35 @@ public class JdbcExecutor {
             Connection connection,
             String sql,
             Object... params
+    ) {
+        return executeUpdate(connection, sql, params, parameterBinder::bind);
+    }
+
+    public <S> int executeUpdate(
+            Connection connection,
+            String sql,
+            S source,
+            ParameterSetter<S> parameterSetter
     ) {
         PreparedStatement pstmt = null;
         try {
-            pstmt = connection.prepareStatement(sql);
-            parameterBinder.bind(pstmt, params);
-            return pstmt.executeUpdate();
+            pstmt = prepareStatement(connection, sql, false);
+            parameterSetter.setValues(pstmt, source);
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            int updateCount;
+            try {
+                updateCount = pstmt.executeUpdate();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, updateCount, startedAt, event);
+            return updateCount;
         } catch (SQLException e) {
             throw new JdbcException("Failed to execute update: " + sql, e);
         } finally {
-            closePrepareStatement(pstmt);
+            releaseStatement(pstmt);
         }
     }
 
@@ -68,19 +272,74 @@ public class JdbcExecutor {
             String sql,
             ResultSetExtractor<T> resultSetExtractor,
             Object... params
+    ) {
+        return executeQuery(connection, sql, resultSetExtractor, params, parameterBinder::bind);
+    }
+
+    public <T, S> T executeQuery(
+            Connection connection,
+            String sql,
+            ResultSetExtractor<T> resultSetExtractor,
+            S source,
+            ParameterSetter<S> parameterSetter
     ) {
         PreparedStatement pstmt = null;
         ResultSet resultSet = null;
         try {
-            pstmt = connection.prepareStatement(sql);
-            parameterBinder.bind(pstmt, params);
-            resultSet = pstmt.executeQuery();
-            return resultSetExtractor.extractData(resultSet);
+            pstmt = prepareStatement(connection, sql, false);
+            parameterSetter.setValues(pstmt, source);
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            T result;
+            try {
+                resultSet = pstmt.executeQuery();
+                result = resultSetExtractor.extractData(resultSet);
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, ExecutionInfo.UNKNOWN_ROWS, startedAt, event);
+            return result;
         } catch (SQLException e) {
             throw new JdbcException("Failed to execute query: " + sql, e);
         } finally {
-            closePrepareStatement(pstmt);
             closeResultSet(resultSet);
+            releaseStatement(pstmt);
+        }
+    }
+
+    /**
+     * 결과를 한 row 씩 읽는 cursor 를 연다. statement 는 cache 하지 않으며 cursor 를 닫을 때 함께 닫힌다.
+     */
+    public <T, S> ResultSetCursor<T> openCursor(
+            Connection connection,
+            String sql,
+            int fetchSize,
+            ResultSetExtractor<T> rowExtractor,
+            S source,
+            ParameterSetter<S> parameterSetter
+    ) {
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if (fetchSize > 0) {
+                pstmt.setFetchSize(fetchSize);
+            }
+            parameterSetter.setValues(pstmt, source);
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            ResultSet resultSet;
+            try {
+                resultSet = pstmt.executeQuery();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, ExecutionInfo.UNKNOWN_ROWS, startedAt, event); // cursor 는 첫 row 까지만 측정
+            return new ResultSetCursor<>(pstmt, resultSet, rowExtractor);
+        } catch (SQLException e) {
+            closeStatement(pstmt);
+            throw new JdbcException("Failed to open cursor: " + sql, e);
         }
     }
 
@@ -94,9 +353,17 @@ public class JdbcExecutor {
         PreparedStatement pstmt = null;
         ResultSet resultSet = null;
         try {
-            pstmt = connection.prepareStatement(sql);
+            pstmt = prepareStatement(connection, sql, false);
             parameterBinder.bind(pstmt, params);
-            resultSet = pstmt.executeQuery();
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            try {
+                resultSet = pstmt.executeQuery();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, ExecutionInfo.UNKNOWN_ROWS, startedAt, event);
             if (resultSet.next()) {
                 return resultSetExtractor.extractData(resultSet);
             } else {
@@ -105,8 +372,8 @@ public class JdbcExecutor {
         } catch (SQLException e) {
             throw new JdbcException("Failed to execute query for object", e);
         } finally {
-            closePrepareStatement(pstmt);
             closeResultSet(resultSet);
+            releaseStatement(pstmt);
         }
     }
 
@@ -119,9 +386,17 @@ public class JdbcExecutor {
         PreparedStatement pstmt = null;
         ResultSet resultSet = null;
         try {
-            pstmt = connection.prepareStatement(sql);
+            pstmt = prepareStatement(connection, sql, false);
             parameterBinder.bind(pstmt, params);
-            resultSet = pstmt.executeQuery();
+            StatementExecutionEvent event = new StatementExecutionEvent();
+            long startedAt = beforeExecute(connection, sql, 1, event);
+            try {
+                resultSet = pstmt.executeQuery();
+            } catch (SQLException e) {
+                afterFailure(connection, sql, 1, startedAt, event, e);
+                throw e;
+            }
+            afterExecute(connection, sql, 1, ExecutionInfo.UNKNOWN_ROWS, startedAt, event);
             List<T> valueList = new ArrayList<>();
             while (resultSet.next()) {
                 T value = resultSetExtractor.extractData(resultSet);
@@ -133,18 +408,174 @@ public class JdbcExecutor {
         } catch (SQLException e) {
             throw new JdbcException("Failed to execute query for list", e);
         } finally {
-            closePrepareStatement(pstmt);
             closeResultSet(resultSet);
+            releaseStatement(pstmt);
+        }
+    }
+
+    // listener 가 없으면 통계용 timer 만 시작한다, JFR event 는 listener 실행 시간을 빼고 측정
+    private long beforeExecute(Connection connection, String sql, int batchSize, StatementExecutionEvent event) {
+        if (executionListeners.length == 0) {
+            event.begin();
+            return statistics.startTimer();
+        }
+        ExecutionInfo executionInfo = new ExecutionInfo(
+                sql,
+                ExecutionInfo.countParameters(sql),
+                batchSize,
+                ExecutionInfo.UNKNOWN_ROWS,
+                0L,
+                System.identityHashCode(connection),
+                null
+        );
+        for (ExecutionListener executionListener : executionListeners) {
+            try {
+                executionListener.beforeExecute(executionInfo);
+            } catch (RuntimeException e) {
+                log.warn("ExecutionListener failed before execute: {}", sql, e);
+            }
+        }
+        event.begin();
+        return System.nanoTime();
+    }
+
+    private void afterExecute(
+            Connection connection,
+            String sql,
+            int batchSize,
+            long rowsAffected,
+            long startedAt,
+            StatementExecutionEvent event
+    ) {
+        commitEvent(event, sql, batchSize, rowsAffected, true);
+        statistics.recordStatement(sql, startedAt);
+        if (executionListeners.length > 0) {
+            notifyAfterExecute(connection, sql, batchSize, rowsAffected, startedAt, null);
+        }
+    }
+
+    private void afterFailure(
+            Connection connection,
+            String sql,
+            int batchSize,
+            long startedAt,
+            StatementExecutionEvent event,
+            SQLException failure
+    ) {
+        commitEvent(event, sql, batchSize, ExecutionInfo.UNKNOWN_ROWS, false);
+        if (executionListeners.length > 0) {
+            notifyAfterExecute(connection, sql, batchSize, ExecutionInfo.UNKNOWN_ROWS, startedAt, failure);
+        }
+    }
+
+    private void notifyAfterExecute(
+            Connection connection,
+            String sql,
+            int batchSize,
+            long rowsAffected,
+            long startedAt,
+            SQLException failure
+    ) {
+        ExecutionInfo executionInfo = new ExecutionInfo(
+                sql,
+                ExecutionInfo.countParameters(sql),
+                batchSize,
+                rowsAffected,
+                System.nanoTime() - startedAt,
+                System.identityHashCode(connection),
+                failure
+        );
+        for (ExecutionListener executionListener : executionListeners) {
+            try {
+                executionListener.afterExecute(executionInfo);
+            } catch (RuntimeException e) {
+                log.warn("ExecutionListener failed after execute: {}", sql, e);
+            }
         }
     }
 
-    private void closePrepareStatement(PreparedStatement stmt) {
-        if (stmt != null) {
+    // JFR 이 꺼져 있으면 shouldCommit 이 false 라 필드도 채우지 않는다
+    private void commitEvent(StatementExecutionEvent event, String sql, int batchSize, long rowsAffected, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.sql = sql;
+            event.batchSize = batchSize;
+            event.rowsAffected = rowsAffected;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    // driver 가 SUCCESS_NO_INFO 를 돌려주면 전체 row 수를 알 수 없다
+    private long sumUpdateCounts(int[] updateCounts) {
+        long total = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount < 0) {
+                return ExecutionInfo.UNKNOWN_ROWS;
+            }
+            total += updateCount;
+        }
+        return total;
+    }
+
+    public void closeExecutionListeners() {
+        for (ExecutionListener executionListener : executionListeners) {
             try {
+                executionListener.close();
+            } catch (RuntimeException e) {
+                log.warn("Failed to close ExecutionListener", e);
+            }
+        }
+    }
+
+    private PreparedStatement prepareStatement(
+            Connection connection,
+            String sql,
+            boolean returnGeneratedKeys
+    ) throws SQLException {
+        if (statementCacheRegistry.isEnabled()) {
+            return statementCacheRegistry.getStatementCache(connection).prepare(connection, sql, returnGeneratedKeys);
+        }
+        return returnGeneratedKeys
+                ? connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+    }
+
+    // cache 된 statement 는 닫지 않고 파라미터만 비운다
+    private void releaseStatement(PreparedStatement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            if (statementCacheRegistry.isEnabled()) {
+                stmt.clearParameters();
+            } else {
                 stmt.close();
-            } catch (SQLException e) {
-                log.warn("Failed to close PreparedStatement", e);
             }
+        } catch (SQLException e) {
+            log.warn("Failed to release PreparedStatement", e);
+        }
+    }
+
+    private void closeStatement(PreparedStatement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close PreparedStatement", e);
+        }
+    }
+
+    private void clearBatch(PreparedStatement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            stmt.clearBatch();
+        } catch (SQLException e) {
+            log.warn("Failed to clear PreparedStatement batch", e);
         }
     }
 
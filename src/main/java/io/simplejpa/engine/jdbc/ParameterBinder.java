@@ -2,9 +2,9 @@ package io.simplejpa.engine.jdbc;
 
 import io.simplejpa.exception.JdbcException;
 
-import java.sql.*;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 import java.util.Map;
 
@@ -27,25 +27,9 @@ public class ParameterBinder {
     private void bindParameter(PreparedStatement stmt, Object param, int paramIndex) throws SQLException {
         if (param == null) {
             stmt.setNull(paramIndex, Types.NULL);
-        } else if (param instanceof String) {
-            stmt.setString(paramIndex, (String) param);
-        } else if (param instanceof Integer) {
-            stmt.setInt(paramIndex, (Integer) param);
-        } else if (param instanceof Long) {
-            stmt.setLong(paramIndex, (Long) param);
-        } else if (param instanceof Double) {
-            stmt.setDouble(paramIndex, (Double) param);
-        } else if (param instanceof Boolean) {
-            stmt.setBoolean(paramIndex, (Boolean) param);
-        } else if (param instanceof java.util.Date) {
-            stmt.setTimestamp(paramIndex, new Timestamp(((java.util.Date) param).getTime()));
-        } else if (param instanceof LocalDateTime) {
-            stmt.setTimestamp(paramIndex, Timestamp.valueOf((LocalDateTime) param));
-        } else if (param instanceof LocalDate) {
-            stmt.setDate(paramIndex, Date.valueOf((LocalDate) param));
-        } else {
-            throw new JdbcException("Unsupported parameter type: " + param.getClass());
+            return;
         }
+        ValueBinder.forValue(param).bind(stmt, paramIndex, param);
     }
 
     public void bindQueryParameters(
@@ -54,11 +38,20 @@ public class ParameterBinder {
             Map<String, Object> namedParameters,
             Map<Integer, Object> positionalParameters
     ) throws SQLException {
+        bind(pstmt, resolveQueryParameters(parameterOrder, namedParameters, positionalParameters));
+    }
+
+    public Object[] resolveQueryParameters(
+            List<String> parameterOrder,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters
+    ) {
+        Object[] parameterValues = new Object[parameterOrder.size()];
         for (int i = 0; i < parameterOrder.size(); i++) {
             String parameterName = parameterOrder.get(i);
-            Object parameterValue = extractParameterValue(namedParameters, positionalParameters, parameterName);
-            bindParameter(pstmt, parameterValue, i + 1);
+            parameterValues[i] = extractParameterValue(namedParameters, positionalParameters, parameterName);
         }
+        return parameterValues;
     }
 
     private Object extractParameterValue(Map<String, Object> namedParameters, Map<Integer, Object> positionalParameters, String parameterName) {
@@ -0,0 +1,12 @@
+package io.simplejpa.engine.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * source 객체의 값을 PreparedStatement 에 바인딩
+ */
+@FunctionalInterface
+public interface ParameterSetter<T> {
+    void setValues(PreparedStatement pstmt, T source) throws SQLException;
+}
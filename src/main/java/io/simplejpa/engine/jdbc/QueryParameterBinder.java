@@ -0,0 +1,37 @@
+package io.simplejpa.engine.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * 쿼리 파라미터 자리마다 처음 관찰한 타입의 binder 를 기억한다.
+ * 여러 스레드가 공유하지만 binder 는 상태가 없는 상수라 경합해도 결과가 같다.
+ */
+public class QueryParameterBinder {
+    private final ValueBinder[] slotBinders;
+
+    public QueryParameterBinder(int parameterCount) {
+        this.slotBinders = new ValueBinder[parameterCount];
+    }
+
+    public void bind(PreparedStatement pstmt, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            ValueBinder binder = slotBinders[i];
+            if (value == null) {
+                if (binder == null) {
+                    pstmt.setNull(i + 1, Types.NULL);
+                } else {
+                    binder.bind(pstmt, i + 1, null);
+                }
+                continue;
+            }
+            if (binder == null || !binder.supports(value)) {
+                binder = ValueBinder.forValue(value);
+                slotBinders[i] = binder;
+            }
+            binder.bind(pstmt, i + 1, value);
+        }
+    }
+}
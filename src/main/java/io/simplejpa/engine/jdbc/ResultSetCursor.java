@@ -0,0 +1,96 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.exception.JdbcException;
+import io.simplejpa.query.ResultCursor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+
+/**
+ * forward-only ResultSet 위의 cursor, 한 번에 한 row 만 읽는다.
+ */
+@Slf4j
+public class ResultSetCursor<T> implements ResultCursor<T> {
+    private final PreparedStatement pstmt;
+    private final ResultSet resultSet;
+    private final ResultSetExtractor<T> rowExtractor;
+    private Runnable closeCallback;
+    private boolean prefetched;
+    private boolean closed;
+
+    ResultSetCursor(
+            PreparedStatement pstmt,
+            ResultSet resultSet,
+            ResultSetExtractor<T> rowExtractor
+    ) {
+        this.pstmt = pstmt;
+        this.resultSet = resultSet;
+        this.rowExtractor = rowExtractor;
+    }
+
+    public void setCloseCallback(Runnable closeCallback) {
+        this.closeCallback = closeCallback;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (prefetched) {
+            return true;
+        }
+        try {
+            prefetched = resultSet.next();
+        } catch (SQLException e) {
+            close();
+            throw new JdbcException("Failed to read next row", e);
+        }
+        if (!prefetched) {
+            close(); // 끝까지 읽으면 바로 자원 반납
+        }
+        return prefetched;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        prefetched = false;
+        try {
+            return rowExtractor.extractData(resultSet);
+        } catch (SQLException e) {
+            close();
+            throw new JdbcException("Failed to map row", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close ResultSet", e);
+        }
+        try {
+            pstmt.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close PreparedStatement", e);
+        }
+        if (closeCallback != null) {
+            closeCallback.run();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,71 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.exception.JdbcException;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.util.TypeConverter;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * factory 범위 row mapper cache
+ * row mapper 는 컬럼 label 순서에만 의존하므로 (엔티티 타입, 컬럼 label 목록) 을 key 로 쓴다.
+ * SQL 을 key 로 쓰면 동적 JPQL 마다 mapper 가 계속 쌓이지만, 컬럼 모양은 엔티티마다 몇 가지뿐이다.
+ */
+public class RowMapperCache {
+    private final TypeConverter typeConverter;
+    private final Map<RowMapperKey, EntityRowMapper<?>> rowMappers = new ConcurrentHashMap<>();
+
+    public RowMapperCache(TypeConverter typeConverter) {
+        this.typeConverter = typeConverter;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> EntityRowMapper<T> getRowMapper(
+            EntityMetadata metadata,
+            ResultSet rs
+    ) {
+        try {
+            ResultSetMetaData resultSetMetaData = rs.getMetaData();
+            RowMapperKey key = new RowMapperKey(metadata.getEntityClass(), readColumnLabels(resultSetMetaData));
+            EntityRowMapper<?> cached = rowMappers.get(key);
+            if (cached != null) {
+                return (EntityRowMapper<T>) cached;
+            }
+            return (EntityRowMapper<T>) rowMappers.computeIfAbsent(key, k -> compile(metadata, resultSetMetaData));
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to read result set metadata", e);
+        }
+    }
+
+    // row mapper 가 대소문자를 무시하고 컬럼을 찾으므로 key 도 소문자로 맞춘다
+    private List<String> readColumnLabels(ResultSetMetaData resultSetMetaData) throws SQLException {
+        int columnCount = resultSetMetaData.getColumnCount();
+        List<String> columnLabels = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnLabels.add(resultSetMetaData.getColumnLabel(i).toLowerCase(Locale.ROOT));
+        }
+        return columnLabels;
+    }
+
+    private EntityRowMapper<?> compile(EntityMetadata metadata, ResultSetMetaData resultSetMetaData) {
+        try {
+            return new EntityRowMapper<>(metadata, resultSetMetaData, typeConverter);
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to read result set metadata", e);
+        }
+    }
+
+    public int size() {
+        return rowMappers.size();
+    }
+
+    private record RowMapperKey(Class<?> entityClass, List<String> columnLabels) {
+    }
+}
@@ -0,0 +1,88 @@
+package io.simplejpa.engine.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * threshold 보다 오래 걸린 statement 를 로그로 남긴다.
+ * 로그 출력은 별도 daemon 스레드에서 하고, queue 가 가득 차면 버린다. (요청 스레드는 기다리지 않는다)
+ */
+@Slf4j
+public class SlowQueryLogger implements ExecutionListener {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1_024;
+
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor logExecutor;
+    private final LongAdder droppedCount = new LongAdder();
+
+    public SlowQueryLogger(Duration threshold) {
+        this(threshold, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SlowQueryLogger(Duration threshold, int queueCapacity) {
+        validateThreshold(threshold);
+        this.thresholdNanos = threshold.toNanos();
+        this.logExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "simplejpa-slow-query-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedCount.increment()
+        );
+    }
+
+    private void validateThreshold(Duration threshold) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Slow query threshold cannot be null or negative");
+        }
+    }
+
+    @Override
+    public void afterExecute(ExecutionInfo executionInfo) {
+        if (executionInfo.elapsedNanos() < thresholdNanos) {
+            return;
+        }
+        logExecutor.execute(() -> write(executionInfo));
+    }
+
+    private void write(ExecutionInfo executionInfo) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(executionInfo.elapsedNanos());
+        if (executionInfo.isSuccess()) {
+            log.warn("Slow query {}ms (batch={}, rows={}, params={}, connection={}): {}",
+                    elapsedMillis,
+                    executionInfo.batchSize(),
+                    executionInfo.rowsAffected(),
+                    executionInfo.parameterCount(),
+                    executionInfo.connectionId(),
+                    executionInfo.sql());
+            return;
+        }
+        log.warn("Slow query failed after {}ms (batch={}, params={}, connection={}): {} - {}",
+                elapsedMillis,
+                executionInfo.batchSize(),
+                executionInfo.parameterCount(),
+                executionInfo.connectionId(),
+                executionInfo.sql(),
+                executionInfo.failure().getMessage());
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        logExecutor.shutdown(); // queue 에 남은 로그는 마저 출력
+    }
+}
@@ -0,0 +1,87 @@
+package io.simplejpa.engine.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * connection 하나에 묶인 LRU PreparedStatement cache
+ * connection 은 한 번에 한 스레드만 사용하므로 동기화하지 않는다.
+ */
+@Slf4j
+public class StatementCache {
+    private final int maxSize;
+    private final LinkedHashMap<StatementKey, PreparedStatement> statements;
+    private final StatementCacheRegistry registry;
+    private long hitCount;
+    private long missCount;
+
+    StatementCache(int maxSize, StatementCacheRegistry registry) {
+        this.maxSize = maxSize;
+        this.registry = registry;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    closeStatement(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public PreparedStatement prepare(
+            Connection connection,
+            String sql,
+            boolean returnGeneratedKeys
+    ) throws SQLException {
+        StatementKey key = new StatementKey(sql, returnGeneratedKeys);
+        PreparedStatement cached = statements.get(key);
+        if (cached != null && !cached.isClosed()) {
+            hitCount++;
+            registry.recordHit();
+            return cached;
+        }
+
+        missCount++;
+        registry.recordMiss();
+        PreparedStatement pstmt = returnGeneratedKeys
+                ? connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+        statements.put(key, pstmt);
+        return pstmt;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    void close() {
+        statements.values().forEach(this::closeStatement);
+        statements.clear();
+    }
+
+    private void closeStatement(PreparedStatement pstmt) {
+        try {
+            pstmt.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close cached PreparedStatement", e);
+        }
+    }
+
+    private record StatementKey(String sql, boolean returnGeneratedKeys) {
+    }
+}
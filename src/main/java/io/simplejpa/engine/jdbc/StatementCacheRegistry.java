@@ -0,0 +1,56 @@
+package io.simplejpa.engine.jdbc;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 물리 connection 별 StatementCache 보관소
+ * connection 이 물리적으로 닫힐 때 release 로 cache 를 정리해야 한다.
+ */
+public class StatementCacheRegistry {
+    private final int cacheSizePerConnection;
+    private final Map<Connection, StatementCache> caches = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public StatementCacheRegistry(int cacheSizePerConnection) {
+        this.cacheSizePerConnection = cacheSizePerConnection;
+    }
+
+    public boolean isEnabled() {
+        return cacheSizePerConnection > 0;
+    }
+
+    public StatementCache getStatementCache(Connection connection) {
+        return caches.computeIfAbsent(connection, key -> new StatementCache(cacheSizePerConnection, this));
+    }
+
+    public void release(Connection connection) {
+        StatementCache cache = caches.remove(connection);
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    public int getCachedConnectionCount() {
+        return caches.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+}
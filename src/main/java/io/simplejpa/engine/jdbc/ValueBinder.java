@@ -0,0 +1,108 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.exception.JdbcException;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 타입 하나에 대한 PreparedStatement 바인딩
+ * null 은 타입에 맞는 SQL 타입으로 바인딩한다.
+ */
+public final class ValueBinder {
+    public static final ValueBinder STRING = new ValueBinder(String.class, Types.VARCHAR,
+            (pstmt, index, value) -> pstmt.setString(index, (String) value));
+    public static final ValueBinder INTEGER = new ValueBinder(Integer.class, Types.INTEGER,
+            (pstmt, index, value) -> pstmt.setInt(index, (Integer) value));
+    public static final ValueBinder LONG = new ValueBinder(Long.class, Types.BIGINT,
+            (pstmt, index, value) -> pstmt.setLong(index, (Long) value));
+    public static final ValueBinder DOUBLE = new ValueBinder(Double.class, Types.DOUBLE,
+            (pstmt, index, value) -> pstmt.setDouble(index, (Double) value));
+    public static final ValueBinder BOOLEAN = new ValueBinder(Boolean.class, Types.BOOLEAN,
+            (pstmt, index, value) -> pstmt.setBoolean(index, (Boolean) value));
+    public static final ValueBinder DATE = new ValueBinder(java.util.Date.class, Types.TIMESTAMP,
+            (pstmt, index, value) -> pstmt.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime())));
+    public static final ValueBinder LOCAL_DATE_TIME = new ValueBinder(LocalDateTime.class, Types.TIMESTAMP,
+            (pstmt, index, value) -> pstmt.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value)));
+    public static final ValueBinder LOCAL_DATE = new ValueBinder(LocalDate.class, Types.DATE,
+            (pstmt, index, value) -> pstmt.setDate(index, Date.valueOf((LocalDate) value)));
+
+    // 값의 실제 클래스 -> binder, 클래스마다 한 번만 판별한다
+    private static final ClassValue<ValueBinder> BINDERS_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected ValueBinder computeValue(Class<?> type) {
+            return forType(type);
+        }
+    };
+
+    private final Class<?> javaType;
+    private final int sqlType;
+    private final ValueSetter setter;
+
+    private ValueBinder(Class<?> javaType, int sqlType, ValueSetter setter) {
+        this.javaType = javaType;
+        this.sqlType = sqlType;
+        this.setter = setter;
+    }
+
+    public static ValueBinder forType(Class<?> javaType) {
+        if (javaType == String.class) {
+            return STRING;
+        }
+        if (javaType == Integer.class || javaType == int.class) {
+            return INTEGER;
+        }
+        if (javaType == Long.class || javaType == long.class) {
+            return LONG;
+        }
+        if (javaType == Double.class || javaType == double.class) {
+            return DOUBLE;
+        }
+        if (javaType == Boolean.class || javaType == boolean.class) {
+            return BOOLEAN;
+        }
+        if (java.util.Date.class.isAssignableFrom(javaType)) {
+            return DATE;
+        }
+        if (javaType == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        }
+        if (javaType == LocalDate.class) {
+            return LOCAL_DATE;
+        }
+        // 등록 시점이 아니라 실제 바인딩 시점에 실패시킨다
+        return new ValueBinder(javaType, Types.NULL, (pstmt, index, value) -> {
+            throw new JdbcException("Unsupported parameter type: " + value.getClass());
+        });
+    }
+
+    public static ValueBinder forValue(Object value) {
+        return BINDERS_BY_CLASS.get(value.getClass());
+    }
+
+    public void bind(PreparedStatement pstmt, int index, Object value) throws SQLException {
+        if (value == null) {
+            pstmt.setNull(index, sqlType);
+            return;
+        }
+        setter.set(pstmt, index, value);
+    }
+
+    public boolean supports(Object value) {
+        return javaType.isInstance(value);
+    }
+
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    @FunctionalInterface
+    private interface ValueSetter {
+        void set(PreparedStatement pstmt, int index, Object value) throws SQLException;
+    }
+}
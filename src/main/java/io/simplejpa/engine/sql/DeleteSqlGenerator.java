@@ -9,6 +9,10 @@ public class DeleteSqlGenerator {
             EntityMetadata entityMetadata,
             Object id
     ) {
+        return new SqlWithParameters(createDeleteSql(entityMetadata), List.of(id));
+    }
+
+    public String createDeleteSql(EntityMetadata entityMetadata) {
         SqlBuilder sqlBuilder = new SqlBuilder();
         String deleteSqlPart = sqlBuilder.append("DELETE FROM ")
                 .appendTable(entityMetadata.getTableName())
@@ -18,9 +22,7 @@ public class DeleteSqlGenerator {
         String idColumnName = entityMetadata.getIdentifierMetadata().getColumnName();
         String wherePart = whereClauseBuilder.whereEquals(idColumnName).build();
 
-        String sql = deleteSqlPart + " " + wherePart;
-
-        return new SqlWithParameters(sql, List.of(id));
+        return deleteSqlPart + " " + wherePart;
     }
 
 }
@@ -0,0 +1,65 @@
+package io.simplejpa.engine.sql;
+
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.EntityMetadata;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * dirty 컬럼 bitmask 별 UPDATE plan cache
+ * 같은 조합이면 같은 SQL 문자열을 돌려주므로 statement cache 도 그대로 재사용된다.
+ */
+public class DynamicUpdatePlanCache {
+    // 조합 수가 너무 많은 엔티티는 더 이상 cache 하지 않는다
+    private static final int MAX_PLANS_PER_ENTITY = 256;
+
+    private final UpdateSqlGenerator updateSqlGenerator;
+    private final Map<Class<?>, Map<BitSet, UpdateSqlPlan>> plansByEntity = new ConcurrentHashMap<>();
+
+    public DynamicUpdatePlanCache(UpdateSqlGenerator updateSqlGenerator) {
+        this.updateSqlGenerator = updateSqlGenerator;
+    }
+
+    /**
+     * dirtyMask 의 index 는 EntityMetadata#getAttributeMetadatas 순서를 따른다.
+     */
+    public UpdateSqlPlan getUpdatePlan(EntityMetadata metadata, BitSet dirtyMask) {
+        Map<BitSet, UpdateSqlPlan> plans = plansByEntity.computeIfAbsent(
+                metadata.getEntityClass(),
+                entityClass -> new ConcurrentHashMap<>()
+        );
+        UpdateSqlPlan cached = plans.get(dirtyMask);
+        if (cached != null) {
+            return cached;
+        }
+
+        UpdateSqlPlan updatePlan = createUpdatePlan(metadata, dirtyMask);
+        if (plans.size() < MAX_PLANS_PER_ENTITY) {
+            // 호출자가 mask 를 재사용할 수 있으므로 복사본을 key 로 쓴다
+            plans.putIfAbsent((BitSet) dirtyMask.clone(), updatePlan);
+        }
+        return updatePlan;
+    }
+
+    private UpdateSqlPlan createUpdatePlan(EntityMetadata metadata, BitSet dirtyMask) {
+        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
+        List<AttributeMetadata> setAttributes = new ArrayList<>(dirtyMask.cardinality());
+        for (int i = dirtyMask.nextSetBit(0); i >= 0; i = dirtyMask.nextSetBit(i + 1)) {
+            setAttributes.add(attributeMetadatas.get(i));
+        }
+        return new UpdateSqlPlan(
+                updateSqlGenerator.createUpdateSql(metadata, setAttributes),
+                setAttributes,
+                metadata.getIdentifierMetadata()
+        );
+    }
+
+    public int size(Class<?> entityClass) {
+        Map<BitSet, UpdateSqlPlan> plans = plansByEntity.get(entityClass);
+        return plans == null ? 0 : plans.size();
+    }
+}
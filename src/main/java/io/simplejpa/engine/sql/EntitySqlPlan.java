@@ -0,0 +1,66 @@
+package io.simplejpa.engine.sql;
+
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 엔티티 등록 시점에 한 번 만들어 두는 CRUD SQL 과 파라미터 순서
+ * insertAttributes, updateAttributes 의 순서가 곧 '?' 바인딩 순서다. (update 는 마지막에 id)
+ * IDENTITY 가 아닌 엔티티의 insert 는 id 가 맨 앞에 온다.
+ * IDENTITY 엔티티도 id 를 직접 넣었으면 assignedIdInsertSql 로 id 를 포함해 INSERT 하고 generated key 를 쓰지 않는다.
+ */
+public record EntitySqlPlan(
+        EntityMetadata metadata,
+        String insertSql,
+        String assignedIdInsertSql,
+        String updateSql,
+        String deleteSql,
+        String findByIdSql,
+        List<AttributeMetadata> insertAttributes,
+        List<AttributeMetadata> updateAttributes
+) {
+    public EntitySqlPlan {
+        insertAttributes = List.copyOf(insertAttributes);
+        updateAttributes = List.copyOf(updateAttributes);
+    }
+
+    public String insertSql(Object entity) {
+        return usesGeneratedKeys(entity) ? insertSql : assignedIdInsertSql;
+    }
+
+    public void bindInsert(PreparedStatement pstmt, Object entity) throws SQLException {
+        int offset = 0;
+        if (!usesGeneratedKeys(entity)) {
+            bindId(pstmt, 1, entity);
+            offset = 1;
+        }
+        for (int i = 0; i < insertAttributes.size(); i++) {
+            insertAttributes.get(i).getBinder().bind(pstmt, offset + i + 1, entity);
+        }
+    }
+
+    public boolean usesGeneratedKeys(Object entity) {
+        IdentifierMetadata identifierMetadata = metadata.getIdentifierMetadata();
+        return identifierMetadata.isPostInsertGenerated() && !identifierMetadata.isAssigned(entity);
+    }
+
+    public void bindUpdate(PreparedStatement pstmt, Object entity) throws SQLException {
+        for (int i = 0; i < updateAttributes.size(); i++) {
+            updateAttributes.get(i).getBinder().bind(pstmt, i + 1, entity);
+        }
+        bindId(pstmt, updateAttributes.size() + 1, entity);
+    }
+
+    public void bindDelete(PreparedStatement pstmt, Object entity) throws SQLException {
+        bindId(pstmt, 1, entity);
+    }
+
+    private void bindId(PreparedStatement pstmt, int index, Object entity) throws SQLException {
+        metadata.getIdentifierMetadata().getBinder().bind(pstmt, index, entity);
+    }
+}
@@ -0,0 +1,35 @@
+package io.simplejpa.engine.sql;
+
+import io.simplejpa.metadata.EntityMetadata;
+
+public class EntitySqlPlanGenerator {
+    private final InsertSqlGenerator insertSqlGenerator;
+    private final UpdateSqlGenerator updateSqlGenerator;
+    private final DeleteSqlGenerator deleteSqlGenerator;
+    private final SelectSqlGenerator selectSqlGenerator;
+
+    public EntitySqlPlanGenerator(
+            InsertSqlGenerator insertSqlGenerator,
+            UpdateSqlGenerator updateSqlGenerator,
+            DeleteSqlGenerator deleteSqlGenerator,
+            SelectSqlGenerator selectSqlGenerator
+    ) {
+        this.insertSqlGenerator = insertSqlGenerator;
+        this.updateSqlGenerator = updateSqlGenerator;
+        this.deleteSqlGenerator = deleteSqlGenerator;
+        this.selectSqlGenerator = selectSqlGenerator;
+    }
+
+    public EntitySqlPlan generate(EntityMetadata metadata) {
+        return new EntitySqlPlan(
+                metadata,
+                insertSqlGenerator.createInsertSql(metadata),
+                insertSqlGenerator.createInsertSql(metadata, true),
+                updateSqlGenerator.createUpdateSql(metadata),
+                deleteSqlGenerator.createDeleteSql(metadata),
+                selectSqlGenerator.createFindByIdSql(metadata),
+                insertSqlGenerator.extractInsertableAttributes(metadata),
+                updateSqlGenerator.extractUpdatableAttributes(metadata)
+        );
+    }
+}
@@ -2,7 +2,9 @@ package io.simplejpa.engine.sql;
 
 import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class InsertSqlGenerator {
@@ -17,16 +19,25 @@ public class InsertSqlGenerator {
             Object entity
     ) {
         List<Object> parameters = parameterCollector.collectInsertParameters(entityMetadata, entity);
+        IdentifierMetadata identifierMetadata = entityMetadata.getIdentifierMetadata();
+        boolean includeId = !identifierMetadata.isPostInsertGenerated() || identifierMetadata.isAssigned(entity);
+        return new SqlWithParameters(createInsertSql(entityMetadata, includeId), parameters);
+    }
 
-        List<String> columnNames = entityMetadata.getAttributeMetadatas().stream()
-                .map(AttributeMetadata::getColumnName)
-                .toList();
-
-        String insertSql = createInsertSql(entityMetadata, columnNames, parameters);
-        return new SqlWithParameters(insertSql, parameters);
+    public String createInsertSql(EntityMetadata entityMetadata) {
+        return createInsertSql(entityMetadata, !entityMetadata.getIdentifierMetadata().isPostInsertGenerated());
     }
 
-    private String createInsertSql(EntityMetadata entityMetadata, List<String> columnNames, List<Object> parameters) {
+    // includeId 면 id 를 첫 번째 컬럼으로 넣는다 (미리 할당했거나 직접 넣은 id)
+    public String createInsertSql(EntityMetadata entityMetadata, boolean includeId) {
+        List<String> columnNames = new ArrayList<>();
+        if (includeId) {
+            columnNames.add(entityMetadata.getIdentifierMetadata().getColumnName());
+        }
+        extractInsertableAttributes(entityMetadata).stream()
+                .map(AttributeMetadata::getColumnName)
+                .forEach(columnNames::add);
+
         SqlBuilder sqlBuilder = new SqlBuilder();
         return sqlBuilder.append("INSERT INTO ")
                 .appendTable(entityMetadata.getTableName())
@@ -34,8 +45,15 @@ public class InsertSqlGenerator {
                 .appendColumns(columnNames)
                 .append(")")
                 .append("VALUES(")
-                .appendPlaceholders(parameters.size())
+                .appendPlaceholders(columnNames.size())
                 .append(")")
                 .build();
     }
+
+    // @Column(insertable = false) 컬럼은 INSERT 에서 제외
+    public List<AttributeMetadata> extractInsertableAttributes(EntityMetadata entityMetadata) {
+        return entityMetadata.getAttributeMetadatas().stream()
+                .filter(AttributeMetadata::isInsertable)
+                .toList();
+    }
 }
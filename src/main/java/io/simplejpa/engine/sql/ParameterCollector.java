@@ -2,27 +2,27 @@ package io.simplejpa.engine.sql;
 
 import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
-import io.simplejpa.util.TypeConverter;
+import io.simplejpa.metadata.IdentifierMetadata;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ParameterCollector {
-    private final TypeConverter typeConverter;
-
-    public ParameterCollector(TypeConverter typeConverter) {
-        this.typeConverter = typeConverter;
-    }
-
     public List<Object> collectInsertParameters(
             EntityMetadata entityMetadata,
             Object entity
     ) {
         List<Object> parameters = new ArrayList<>();
+        IdentifierMetadata identifierMetadata = entityMetadata.getIdentifierMetadata();
+        if (!identifierMetadata.isPostInsertGenerated() || identifierMetadata.isAssigned(entity)) {
+            parameters.add(identifierMetadata.getValue(entity));
+        }
         for (AttributeMetadata attr : entityMetadata.getAttributeMetadatas()) {
-            Object value = attr.getValue(entity);
-            Object convertedValue = typeConverter.convertType(value, attr.getJavaType());
-            parameters.add(convertedValue);
+            if (!attr.isInsertable()) {
+                continue;
+            }
+            // accessor 가 이미 필드 타입으로 돌려주므로 변환하지 않는다
+            parameters.add(attr.getValue(entity));
         }
         return parameters;
     }
@@ -35,13 +35,12 @@ public class ParameterCollector {
         List<Object> parameters = new ArrayList<>();
 
         for (AttributeMetadata attr : metadata.getAttributeMetadatas()) {
-            if (attr.getColumnName().equals(idColumnName)) {
+            if (!attr.isUpdatable() || attr.getColumnName().equals(idColumnName)) {
                 continue;
             }
 
-            Object value = attr.getValue(entity);
-            Object convertedValue = typeConverter.convertType(value, attr.getJavaType());
-            parameters.add(convertedValue);
+            // accessor 가 이미 필드 타입으로 돌려주므로 변환하지 않는다
+            parameters.add(attr.getValue(entity));
         }
 
         parameters.add(metadata.getIdentifierMetadata().getValue(entity));
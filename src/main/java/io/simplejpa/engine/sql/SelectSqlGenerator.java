@@ -3,37 +3,54 @@ package io.simplejpa.engine.sql;
 import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class SelectSqlGenerator {
     public SqlWithParameters generateFindById(EntityMetadata metadata, Object id) {
-        String selectSql = createSelectSql(metadata);
+        String selectSql = createFindByIdSql(metadata);
         return new SqlWithParameters(selectSql, List.of(id));
     }
 
-    private String createSelectSql(EntityMetadata metadata) {
-        SqlBuilder builder = new SqlBuilder();
-        String selectPart = builder
-                .append("SELECT ")
-                .appendColumns(extractColumNames(metadata))
-                .append(" FROM ")
-                .appendTable(metadata.getTableName())
-                .build();
-
+    public String createFindByIdSql(EntityMetadata metadata) {
         WhereClauseBuilder whereClauseBuilder = new WhereClauseBuilder();
         String wherePart = whereClauseBuilder
                 .where(extractIdColumName(metadata))
                 .equals()
                 .build();
 
-        return selectPart + " " + wherePart;
+        return createSelectPart(metadata) + " " + wherePart;
+    }
+
+    // id 개수만큼 IN 절의 '?' 를 만든다
+    public String createFindByIdsSql(EntityMetadata metadata, int idCount) {
+        WhereClauseBuilder whereClauseBuilder = new WhereClauseBuilder();
+        String wherePart = whereClauseBuilder
+                .where(new Condition(extractIdColumName(metadata), Operator.IN, idCount))
+                .build();
+
+        return createSelectPart(metadata) + " " + wherePart;
+    }
+
+    private String createSelectPart(EntityMetadata metadata) {
+        SqlBuilder builder = new SqlBuilder();
+        return builder
+                .append("SELECT ")
+                .appendColumns(extractColumNames(metadata))
+                .append(" FROM ")
+                .appendTable(metadata.getTableName())
+                .build();
     }
 
+    // id 컬럼도 함께 조회해야 엔티티의 식별자를 채울 수 있다
     private List<String> extractColumNames(EntityMetadata metadata) {
-        return metadata.getAttributeMetadatas()
+        List<String> columnNames = new ArrayList<>();
+        columnNames.add(extractIdColumName(metadata));
+        metadata.getAttributeMetadatas()
                 .stream()
                 .map(AttributeMetadata::getColumnName)
-                .toList();
+                .forEach(columnNames::add);
+        return columnNames;
     }
 
     private String extractIdColumName(EntityMetadata metadata) {
@@ -21,12 +21,20 @@ public class UpdateSqlGenerator {
         return new SqlWithParameters(sql, parameters);
     }
 
-    private String createUpdateSql(EntityMetadata entityMetadata) {
+    public String createUpdateSql(EntityMetadata entityMetadata) {
+        return createUpdateSql(entityMetadata, extractUpdatableAttributes(entityMetadata));
+    }
+
+    public String createUpdateSql(EntityMetadata entityMetadata, List<AttributeMetadata> setAttributes) {
+        List<String> columnNames = setAttributes.stream()
+                .map(AttributeMetadata::getColumnName)
+                .toList();
+
         SqlBuilder sqlBuilder = new SqlBuilder();
         String updatePart = sqlBuilder.append("UPDATE ")
                 .appendTable(entityMetadata.getTableName())
                 .append(" SET ")
-                .appendSetClause(extractNonIdColumnNames(entityMetadata))
+                .appendSetClause(columnNames)
                 .build();
 
         WhereClauseBuilder whereClauseBuilder = new WhereClauseBuilder();
@@ -38,13 +46,14 @@ public class UpdateSqlGenerator {
         return updatePart + " " + wherePart;
     }
 
-    private List<String> extractNonIdColumnNames(EntityMetadata metadata) {
+    // @Column(updatable = false) 와 id 컬럼은 SET 절에서 제외
+    public List<AttributeMetadata> extractUpdatableAttributes(EntityMetadata metadata) {
         String idColumnName = metadata.getIdentifierMetadata().getColumnName();
 
         return metadata.getAttributeMetadatas()
                 .stream()
-                .map(AttributeMetadata::getColumnName)
-                .filter(column -> !column.equals(idColumnName))
+                .filter(AttributeMetadata::isUpdatable)
+                .filter(attribute -> !attribute.getColumnName().equals(idColumnName))
                 .toList();
     }
 }
@@ -0,0 +1,28 @@
+package io.simplejpa.engine.sql;
+
+import io.simplejpa.metadata.AttributeMetadata;
+import io.simplejpa.metadata.IdentifierMetadata;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 변경된 컬럼 조합 하나에 대한 UPDATE SQL 과 SET 절 바인딩 순서
+ */
+public record UpdateSqlPlan(
+        String sql,
+        List<AttributeMetadata> setAttributes,
+        IdentifierMetadata identifierMetadata
+) {
+    public UpdateSqlPlan {
+        setAttributes = List.copyOf(setAttributes);
+    }
+
+    public void bind(PreparedStatement pstmt, Object entity) throws SQLException {
+        for (int i = 0; i < setAttributes.size(); i++) {
+            setAttributes.get(i).getBinder().bind(pstmt, i + 1, entity);
+        }
+        identifierMetadata.getBinder().bind(pstmt, setAttributes.size() + 1, entity);
+    }
+}
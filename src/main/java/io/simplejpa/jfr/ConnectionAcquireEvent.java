@@ -0,0 +1,17 @@
+package io.simplejpa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ConnectionProvider 에서 connection 을 얻기까지 기다린 구간
+ */
+@Name("io.simplejpa.ConnectionAcquire")
+@Label("Connection Acquire")
+@Category({"SimpleJPA", "Transaction"})
+public class ConnectionAcquireEvent extends Event {
+    @Label("Provider")
+    public Class<?> provider;
+}
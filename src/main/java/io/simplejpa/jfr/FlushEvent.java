@@ -0,0 +1,20 @@
+package io.simplejpa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * PersistenceContext.flush 한 번, dirty checking 과 action 실행을 모두 포함한다
+ */
+@Name("io.simplejpa.Flush")
+@Label("Flush")
+@Category({"SimpleJPA", "Persistence Context"})
+public class FlushEvent extends Event {
+    @Label("Entities Dirty Checked")
+    public int entitiesDirtyChecked;
+
+    @Label("Actions Executed")
+    public int actionsExecuted;
+}
@@ -0,0 +1,20 @@
+package io.simplejpa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * query 결과 ResultSet 을 엔티티로 변환하는 구간
+ */
+@Name("io.simplejpa.Hydration")
+@Label("Result Hydration")
+@Category({"SimpleJPA", "Query"})
+public class HydrationEvent extends Event {
+    @Label("Entity Type")
+    public Class<?> entityType;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,29 @@
+package io.simplejpa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JdbcExecutor 의 statement 실행 한 번 (batch 는 executeBatch 한 번)
+ */
+@Name("io.simplejpa.StatementExecution")
+@Label("Statement Execution")
+@Category({"SimpleJPA", "JDBC"})
+@Description("SQL statement executed by JdbcExecutor")
+public class StatementExecutionEvent extends Event {
+    @Label("SQL")
+    public String sql;
+
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Rows Affected")
+    @Description("-1 for queries or when the driver does not report it")
+    public long rowsAffected;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,28 @@
+package io.simplejpa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JdbcTransaction 의 begin, commit, rollback 한 번
+ * commit 은 commit 전에 실행하는 flush 까지 포함한다.
+ */
+@Name("io.simplejpa.Transaction")
+@Label("Transaction")
+@Category({"SimpleJPA", "Transaction"})
+public class TransactionEvent extends Event {
+    public static final String BEGIN = "begin";
+    public static final String COMMIT = "commit";
+    public static final String ROLLBACK = "rollback";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Read Only")
+    public boolean readOnly;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -1,12 +1,18 @@
 package io.simplejpa.mapping;
 
+import io.simplejpa.annotation.Cacheable;
 import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.DynamicUpdate;
 import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.GeneratedValue;
 import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Immutable;
 import io.simplejpa.annotation.Table;
 import io.simplejpa.metadata.AttributeMetadata;
 import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.IdGenerationMetadata;
 import io.simplejpa.metadata.IdentifierMetadata;
+import io.simplejpa.metadata.accessor.AccessorFactory;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -14,13 +20,19 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class AnnotationProcessor {
+    private final AccessorFactory accessorFactory;
+
+    public AnnotationProcessor() {
+        this.accessorFactory = new AccessorFactory();
+    }
 
     public EntityMetadata processEntity(Class<?> entityClass) {
         validateEntity(entityClass);
 
         Field[] fields = entityClass.getDeclaredFields();
+        String tableName = extractTableName(entityClass);
 
-        IdentifierMetadata identifierMetadata = createIdentifierMetadata(fields);
+        IdentifierMetadata identifierMetadata = createIdentifierMetadata(fields, tableName);
         List<AttributeMetadata> attributeMetadatas = createAttributeMetadata(fields);
 
         validateIdentifierExists(entityClass, identifierMetadata);
@@ -28,11 +40,15 @@ public class AnnotationProcessor {
         return new EntityMetadata(
                 entityClass,
                 entityClass.getSimpleName(),
-                extractTableName(entityClass),
+                tableName,
                 extractSchemaName(entityClass),
                 extractCatalogName(entityClass),
                 identifierMetadata,
-                attributeMetadatas
+                attributeMetadatas,
+                accessorFactory.createInstantiator(entityClass),
+                entityClass.isAnnotationPresent(DynamicUpdate.class),
+                entityClass.isAnnotationPresent(Immutable.class),
+                entityClass.isAnnotationPresent(Cacheable.class)
         );
     }
 
@@ -56,14 +72,14 @@ public class AnnotationProcessor {
                 .collect(Collectors.toList());
     }
 
-    private IdentifierMetadata createIdentifierMetadata(Field[] fields) {
+    private IdentifierMetadata createIdentifierMetadata(Field[] fields, String tableName) {
         IdentifierMetadata identifier = null;
         for (Field field : fields) {
             if (field.isAnnotationPresent(Id.class)) {
                 if (identifier != null) {
                     throw new IllegalStateException("Entity has multiple @Id fields");
                 }
-                identifier = createIdField(field);
+                identifier = createIdField(field, tableName);
             }
         }
         return identifier;
@@ -93,7 +109,7 @@ public class AnnotationProcessor {
         return entityClass.getSimpleName();
     }
 
-    private IdentifierMetadata createIdField(Field field) {
+    private IdentifierMetadata createIdField(Field field, String tableName) {
         String fieldName = field.getName();
         String columnName = fieldName; // default
 
@@ -103,7 +119,31 @@ public class AnnotationProcessor {
                 columnName = column.name();
             }
         }
-        return new IdentifierMetadata(fieldName, columnName, field.getType(), field);
+        return new IdentifierMetadata(
+                fieldName,
+                columnName,
+                field.getType(),
+                field,
+                accessorFactory.createPropertyAccessor(field),
+                extractIdGeneration(field, tableName)
+        );
+    }
+
+    private IdGenerationMetadata extractIdGeneration(Field field, String tableName) {
+        GeneratedValue generatedValue = field.getAnnotation(GeneratedValue.class);
+        if (generatedValue == null) {
+            return IdGenerationMetadata.IDENTITY;
+        }
+        String sequenceName = generatedValue.sequenceName().isEmpty()
+                ? tableName + "_seq"
+                : generatedValue.sequenceName();
+        return new IdGenerationMetadata(
+                generatedValue.strategy(),
+                sequenceName,
+                generatedValue.table(),
+                generatedValue.allocationSize(),
+                generatedValue.optimizer()
+        );
     }
 
     private AttributeMetadata createColumnField(Field field) {
@@ -134,6 +174,7 @@ public class AnnotationProcessor {
                 columnName,
                 field.getType(),
                 field,
+                accessorFactory.createPropertyAccessor(field),
                 nullable,
                 unique,
                 length,
@@ -1,8 +1,11 @@
 package io.simplejpa.metadata;
 
+import io.simplejpa.engine.jdbc.AttributeBinder;
+import io.simplejpa.metadata.accessor.PropertyAccessor;
 import lombok.Getter;
 
 import java.lang.reflect.Field;
+import java.util.Objects;
 
 /**
  * attribute metadata
@@ -13,6 +16,8 @@ public class AttributeMetadata {
     private final String columnName;
     private final Class<?> javaType;
     private final Field field;
+    private final PropertyAccessor accessor;
+    private final AttributeBinder binder;
 
     private final boolean nullable;
     private final boolean unique;
@@ -20,11 +25,13 @@ public class AttributeMetadata {
     private final boolean insertable;
     private final boolean updatable;
 
-    public AttributeMetadata(String fieldName, String columnName, Class<?> javaType, Field field, boolean nullable, boolean unique, int length, boolean insertable, boolean updatable) {
+    public AttributeMetadata(String fieldName, String columnName, Class<?> javaType, Field field, PropertyAccessor accessor, boolean nullable, boolean unique, int length, boolean insertable, boolean updatable) {
         this.fieldName = fieldName;
         this.columnName = columnName;
         this.javaType = javaType;
         this.field = field;
+        this.accessor = accessor;
+        this.binder = AttributeBinder.create(javaType, accessor);
         this.nullable = nullable;
         this.unique = unique;
         this.length = length;
@@ -33,18 +40,28 @@ public class AttributeMetadata {
     }
 
     public Object getValue(Object entity) {
-        try {
-            return field.get(entity);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Field to get attribute value is not accessible.", e);
-        }
+        return accessor.get(entity);
     }
 
     public void setValue(Object entity, Object value) {
-        try {
-            field.set(entity, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Field to set attribute value is not accessible.", e);
+        accessor.set(entity, value);
+    }
+
+    // dirty check 용 비교, primitive 필드는 boxing 없이 비교한다
+    public boolean hasSameValue(Object entity, Object snapshotValue) {
+        if (javaType == long.class) {
+            return snapshotValue != null && accessor.getLong(entity) == (Long) snapshotValue;
+        }
+        if (javaType == int.class) {
+            return snapshotValue != null && accessor.getInt(entity) == (Integer) snapshotValue;
+        }
+        if (javaType == double.class) {
+            return snapshotValue != null
+                    && Double.doubleToLongBits(accessor.getDouble(entity)) == Double.doubleToLongBits((Double) snapshotValue);
+        }
+        if (javaType == boolean.class) {
+            return snapshotValue != null && accessor.getBoolean(entity) == (Boolean) snapshotValue;
         }
+        return Objects.equals(snapshotValue, accessor.get(entity));
     }
 }
@@ -1,8 +1,12 @@
 package io.simplejpa.metadata;
 
+import io.simplejpa.metadata.accessor.EntityInstantiator;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public class EntityMetadata {
@@ -13,31 +17,41 @@ public class EntityMetadata {
     private final String catalogName;
     private final IdentifierMetadata identifierMetadata;
     private final List<AttributeMetadata> attributeMetadatas;
+    private final Map<String, AttributeMetadata> attributeMetadataByFieldName;
+    private final EntityInstantiator instantiator;
+    private final boolean dynamicUpdate; // 변경된 컬럼만 UPDATE
+    private final boolean immutable; // snapshot, dirty check 생략
+    private final boolean cacheable; // 2차 캐시 대상
 
-    public EntityMetadata(Class<?> entityClass, String entityName, String tableName, String schemaName, String catalogName, IdentifierMetadata identifierMetadata, List<AttributeMetadata> attributeMetadatas) {
+    public EntityMetadata(Class<?> entityClass, String entityName, String tableName, String schemaName, String catalogName, IdentifierMetadata identifierMetadata, List<AttributeMetadata> attributeMetadatas, EntityInstantiator instantiator, boolean dynamicUpdate, boolean immutable, boolean cacheable) {
         this.entityClass = entityClass;
         this.entityName = entityName;
         this.tableName = tableName;
         this.schemaName = schemaName;
         this.catalogName = catalogName;
         this.identifierMetadata = identifierMetadata;
-        this.attributeMetadatas = attributeMetadatas;
+        this.attributeMetadatas = List.copyOf(attributeMetadatas);
+        this.attributeMetadataByFieldName = indexByFieldName(attributeMetadatas);
+        this.instantiator = instantiator;
+        this.dynamicUpdate = dynamicUpdate;
+        this.immutable = immutable;
+        this.cacheable = cacheable;
+    }
+
+    private Map<String, AttributeMetadata> indexByFieldName(List<AttributeMetadata> attributeMetadatas) {
+        Map<String, AttributeMetadata> index = new HashMap<>();
+        for (AttributeMetadata attributeMetadata : attributeMetadatas) {
+            index.put(attributeMetadata.getFieldName(), attributeMetadata);
+        }
+        return Collections.unmodifiableMap(index);
     }
 
     public AttributeMetadata getAttributeMetadata(String fieldName) {
-        return attributeMetadatas.stream()
-                .filter(m -> m.getFieldName().equals(fieldName))
-                .findFirst()
-                .orElse(null);
+        return attributeMetadataByFieldName.get(fieldName);
     }
 
     public Object newInstance() {
-        try {
-            return entityClass.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create new instance of " +
-                    entityClass.getName(), e);
-        }
+        return instantiator.newInstance();
     }
 
     public String getQualifiedTableName() {
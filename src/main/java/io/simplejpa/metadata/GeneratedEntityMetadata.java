@@ -0,0 +1,27 @@
+package io.simplejpa.metadata;
+
+import io.simplejpa.engine.sql.EntitySqlPlan;
+import io.simplejpa.metadata.accessor.AccessorFactory;
+
+/**
+ * simple-jpa-processor 가 빌드 시점에 @Entity 마다 만드는 메타데이터 클래스
+ * 엔티티와 같은 패키지에 {@link #classNameOf} 이름으로 생성되며,
+ * MetadataRegistry 는 이 클래스가 있으면 reflection 으로 엔티티를 분석하지 않는다.
+ */
+public interface GeneratedEntityMetadata {
+    String CLASS_NAME_SUFFIX = "_Metadata";
+
+    // private 필드처럼 생성 코드에서 직접 접근할 수 없는 경우에만 accessorFactory 를 사용한다
+    EntityMetadata createMetadata(AccessorFactory accessorFactory);
+
+    // 빌드 시점에 만든 CRUD SQL 을 그대로 사용한다
+    EntitySqlPlan createSqlPlan(EntityMetadata metadata);
+
+    // io.simplejpa.Outer$Member -> io.simplejpa.Outer_Member_Metadata
+    static String classNameOf(String entityBinaryName) {
+        int packageEnd = entityBinaryName.lastIndexOf('.');
+        String packagePrefix = entityBinaryName.substring(0, packageEnd + 1);
+        String simpleName = entityBinaryName.substring(packageEnd + 1).replace('$', '_');
+        return packagePrefix + simpleName + CLASS_NAME_SUFFIX;
+    }
+}
@@ -0,0 +1,29 @@
+package io.simplejpa.metadata;
+
+import io.simplejpa.annotation.GenerationType;
+import io.simplejpa.annotation.IdOptimizer;
+
+/**
+ * @GeneratedValue 설정
+ */
+public record IdGenerationMetadata(
+        GenerationType strategy,
+        String sequenceName,
+        String table,
+        int allocationSize,
+        IdOptimizer optimizer
+) {
+    public static final IdGenerationMetadata IDENTITY =
+            new IdGenerationMetadata(GenerationType.IDENTITY, "", "", 1, IdOptimizer.POOLED);
+
+    public IdGenerationMetadata {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("Allocation size must be at least 1");
+        }
+    }
+
+    // INSERT 이후에 id 를 알 수 있는지
+    public boolean isPostInsert() {
+        return strategy == GenerationType.IDENTITY;
+    }
+}
@@ -1,5 +1,7 @@
 package io.simplejpa.metadata;
 
+import io.simplejpa.engine.jdbc.AttributeBinder;
+import io.simplejpa.metadata.accessor.PropertyAccessor;
 import lombok.Getter;
 
 import java.lang.reflect.Field;
@@ -13,29 +15,43 @@ public class IdentifierMetadata {
     private final String columnName;
     private final Class<?> javaType;
     private final Field field;
+    private final PropertyAccessor accessor;
+    private final AttributeBinder binder;
+    private final IdGenerationMetadata generation;
 
-    public IdentifierMetadata(String fieldName, String columnName, Class<?> javaType, Field field) {
+    public IdentifierMetadata(String fieldName, String columnName, Class<?> javaType, Field field, PropertyAccessor accessor) {
+        this(fieldName, columnName, javaType, field, accessor, IdGenerationMetadata.IDENTITY);
+    }
+
+    public IdentifierMetadata(String fieldName, String columnName, Class<?> javaType, Field field, PropertyAccessor accessor, IdGenerationMetadata generation) {
         this.fieldName = fieldName;
         this.columnName = columnName;
         this.javaType = javaType;
         this.field = field;
-        this.field.setAccessible(true);
+        this.accessor = accessor;
+        this.binder = AttributeBinder.create(javaType, accessor);
+        this.generation = generation;
     }
 
-    public Object getValue(Object entity) {
-        try {
-            return field.get(entity);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Field to get identifier value is not accessible.", e);
+    // IDENTITY 면 id 를 직접 넣지 않은 경우 INSERT 후에 generated key 로 받는다
+    public boolean isPostInsertGenerated() {
+        return generation.isPostInsert();
+    }
+
+    // 직접 넣은 id 가 있는지, primitive id 는 0 을 미할당으로 본다
+    public boolean isAssigned(Object entity) {
+        Object id = getValue(entity);
+        if (id == null) {
+            return false;
         }
+        return !javaType.isPrimitive() || ((Number) id).longValue() != 0L;
+    }
+
+    public Object getValue(Object entity) {
+        return accessor.get(entity);
     }
 
     public void setValue(Object entity, Object value) {
-        try {
-            field.set(entity, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Field to set identifier value is not accessible.", e);
-        }
+        accessor.set(entity, value);
     }
 }
-
@@ -1,17 +1,30 @@
 package io.simplejpa.metadata;
 
+import io.simplejpa.engine.sql.DeleteSqlGenerator;
+import io.simplejpa.engine.sql.EntitySqlPlan;
+import io.simplejpa.engine.sql.EntitySqlPlanGenerator;
+import io.simplejpa.engine.sql.InsertSqlGenerator;
+import io.simplejpa.engine.sql.ParameterCollector;
+import io.simplejpa.engine.sql.SelectSqlGenerator;
+import io.simplejpa.engine.sql.UpdateSqlGenerator;
 import io.simplejpa.mapping.AnnotationProcessor;
+import io.simplejpa.metadata.accessor.AccessorFactory;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 public class MetadataRegistry {
     private final Map<Class<?>, EntityMetadata> metadataCache;
+    private final Map<String, EntityMetadata> metadataByEntityName;
+    private final Map<Class<?>, EntitySqlPlan> sqlPlans;
     private final AnnotationProcessor annotationProcessor;
+    private final EntitySqlPlanGenerator sqlPlanGenerator;
+    private final AccessorFactory accessorFactory;
 
     public MetadataRegistry() {
-        this.metadataCache = new ConcurrentHashMap<>();
-        this.annotationProcessor = new AnnotationProcessor();
+        this(new ConcurrentHashMap<>(), new AnnotationProcessor());
     }
 
     MetadataRegistry(
@@ -19,7 +32,16 @@ public class MetadataRegistry {
             AnnotationProcessor annotationProcessor
     ) {
         this.metadataCache = metadataCache;
+        this.metadataByEntityName = new ConcurrentHashMap<>();
+        this.sqlPlans = new ConcurrentHashMap<>();
         this.annotationProcessor = annotationProcessor;
+        this.sqlPlanGenerator = new EntitySqlPlanGenerator(
+                new InsertSqlGenerator(new ParameterCollector()),
+                new UpdateSqlGenerator(new ParameterCollector()),
+                new DeleteSqlGenerator(),
+                new SelectSqlGenerator()
+        );
+        this.accessorFactory = new AccessorFactory();
     }
 
     public EntityMetadata getMetadata(Class<?> entityClass) {
@@ -31,19 +53,59 @@ public class MetadataRegistry {
     }
 
     public EntityMetadata getMetadataByEntityName(String entityName) {
-        return metadataCache.values().stream()
-                .filter(metadata -> metadata.getEntityName().equals(entityName))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No metadata found for " + entityName));
+        EntityMetadata metadata = metadataByEntityName.get(entityName);
+        if (metadata == null) {
+            throw new IllegalArgumentException("No metadata found for " + entityName);
+        }
+        return metadata;
+    }
+
+    public EntitySqlPlan getSqlPlan(Class<?> entityClass) {
+        EntitySqlPlan sqlPlan = sqlPlans.get(entityClass);
+        if (sqlPlan == null) {
+            throw new IllegalArgumentException("No metadata found for " + entityClass.getName());
+        }
+        return sqlPlan;
     }
 
     public void register(Class<?> entityClass, EntityMetadata entityMetadata) {
+        register(entityClass, entityMetadata, sqlPlanGenerator.generate(entityMetadata));
+    }
+
+    private void register(Class<?> entityClass, EntityMetadata entityMetadata, EntitySqlPlan sqlPlan) {
+        sqlPlans.put(entityClass, sqlPlan);
+        metadataByEntityName.put(entityMetadata.getEntityName(), entityMetadata);
         metadataCache.put(entityClass, entityMetadata);
     }
 
+    // 빌드 시점에 생성된 메타데이터가 있으면 사용하고, 없으면 reflection 으로 분석한다
     public void scanAndRegister(Class<?> entityClass) {
-        if (!hasMetadata(entityClass)) {
+        if (hasMetadata(entityClass)) {
+            return;
+        }
+        GeneratedEntityMetadata generatedMetadata = findGeneratedMetadata(entityClass);
+        if (generatedMetadata == null) {
             register(entityClass, annotationProcessor.processEntity(entityClass));
+            return;
+        }
+        EntityMetadata metadata = generatedMetadata.createMetadata(accessorFactory);
+        register(entityClass, metadata, generatedMetadata.createSqlPlan(metadata));
+        log.debug("Generated metadata registered: {}", entityClass.getName());
+    }
+
+    private GeneratedEntityMetadata findGeneratedMetadata(Class<?> entityClass) {
+        String generatedClassName = GeneratedEntityMetadata.classNameOf(entityClass.getName());
+        try {
+            Class<?> generatedClass = Class.forName(generatedClassName, true, entityClass.getClassLoader());
+            if (!GeneratedEntityMetadata.class.isAssignableFrom(generatedClass)) {
+                return null;
+            }
+            return (GeneratedEntityMetadata) generatedClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Failed to load generated metadata {}, falling back to reflection", generatedClassName, e);
+            return null;
         }
     }
 
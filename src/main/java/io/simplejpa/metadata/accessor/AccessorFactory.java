@@ -0,0 +1,41 @@
+package io.simplejpa.metadata.accessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+
+/**
+ * 가능한 경우 MethodHandle / LambdaMetafactory 기반 구현을, 실패하면 reflection 구현을 만든다.
+ */
+@Slf4j
+public class AccessorFactory {
+
+    public PropertyAccessor createPropertyAccessor(Field field) {
+        try {
+            return new MethodHandlePropertyAccessor(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Falling back to reflection accessor for {}.{}",
+                    field.getDeclaringClass().getName(), field.getName(), e);
+            return new ReflectionPropertyAccessor(field);
+        }
+    }
+
+    // 생성된 메타데이터 클래스가 직접 접근할 수 없는 필드에 사용
+    public PropertyAccessor createPropertyAccessor(Class<?> declaringClass, String fieldName) {
+        try {
+            return createPropertyAccessor(declaringClass.getDeclaredField(fieldName));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(
+                    "Field " + fieldName + " not found in " + declaringClass.getName() + ", generated metadata is stale", e);
+        }
+    }
+
+    public EntityInstantiator createInstantiator(Class<?> entityClass) {
+        try {
+            return new LambdaEntityInstantiator(entityClass);
+        } catch (Throwable e) {
+            log.debug("Falling back to reflection instantiator for {}", entityClass.getName(), e);
+            return new ReflectionEntityInstantiator(entityClass);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package io.simplejpa.metadata.accessor;
+
+public interface EntityInstantiator {
+    Object newInstance();
+}
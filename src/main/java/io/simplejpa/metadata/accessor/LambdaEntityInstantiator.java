@@ -0,0 +1,35 @@
+package io.simplejpa.metadata.accessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+/**
+ * LambdaMetafactory 로 기본 생성자를 Supplier 로 바꿔 reflection 없이 인스턴스를 만든다.
+ */
+public class LambdaEntityInstantiator implements EntityInstantiator {
+    private final Supplier<Object> constructor;
+
+    @SuppressWarnings("unchecked")
+    public LambdaEntityInstantiator(Class<?> entityClass) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+        MethodHandle constructorHandle = lookup.findConstructor(entityClass, MethodType.methodType(void.class));
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructorHandle,
+                MethodType.methodType(entityClass)
+        );
+        this.constructor = (Supplier<Object>) callSite.getTarget().invokeExact();
+    }
+
+    @Override
+    public Object newInstance() {
+        return constructor.get();
+    }
+}
@@ -0,0 +1,158 @@
+package io.simplejpa.metadata.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * 메타데이터 생성 시점에 필드별 MethodHandle 을 만들어 두고 invokeExact 로 접근한다.
+ * primitive 필드는 타입이 정확히 맞는 handle 을 따로 두어 boxing 을 피한다.
+ */
+public class MethodHandlePropertyAccessor implements PropertyAccessor {
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> fieldType;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    public MethodHandlePropertyAccessor(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle rawGetter = lookup.unreflectGetter(field);
+        MethodHandle rawSetter = lookup.unreflectSetter(field);
+
+        this.fieldType = field.getType();
+        this.getter = rawGetter.asType(OBJECT_GETTER);
+        this.setter = rawSetter.asType(OBJECT_SETTER);
+        this.primitiveGetter = fieldType.isPrimitive()
+                ? rawGetter.asType(MethodType.methodType(fieldType, Object.class))
+                : null;
+        this.primitiveSetter = fieldType.isPrimitive()
+                ? rawSetter.asType(MethodType.methodType(void.class, Object.class, fieldType))
+                : null;
+    }
+
+    @Override
+    public Object get(Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get field value.", e);
+        }
+    }
+
+    @Override
+    public void set(Object entity, Object value) {
+        if (value == null && fieldType.isPrimitive()) {
+            return; // primitive 필드는 기본값 유지
+        }
+        try {
+            setter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field value.", e);
+        }
+    }
+
+    @Override
+    public long getLong(Object entity) {
+        if (fieldType != long.class) {
+            return PropertyAccessor.super.getLong(entity);
+        }
+        try {
+            return (long) primitiveGetter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get field value.", e);
+        }
+    }
+
+    @Override
+    public void setLong(Object entity, long value) {
+        if (fieldType != long.class) {
+            PropertyAccessor.super.setLong(entity, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field value.", e);
+        }
+    }
+
+    @Override
+    public int getInt(Object entity) {
+        if (fieldType != int.class) {
+            return PropertyAccessor.super.getInt(entity);
+        }
+        try {
+            return (int) primitiveGetter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get field value.", e);
+        }
+    }
+
+    @Override
+    public void setInt(Object entity, int value) {
+        if (fieldType != int.class) {
+            PropertyAccessor.super.setInt(entity, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field value.", e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object entity) {
+        if (fieldType != double.class) {
+            return PropertyAccessor.super.getDouble(entity);
+        }
+        try {
+            return (double) primitiveGetter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get field value.", e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object entity, double value) {
+        if (fieldType != double.class) {
+            PropertyAccessor.super.setDouble(entity, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field value.", e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object entity) {
+        if (fieldType != boolean.class) {
+            return PropertyAccessor.super.getBoolean(entity);
+        }
+        try {
+            return (boolean) primitiveGetter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get field value.", e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object entity, boolean value) {
+        if (fieldType != boolean.class) {
+            PropertyAccessor.super.setBoolean(entity, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set field value.", e);
+        }
+    }
+}
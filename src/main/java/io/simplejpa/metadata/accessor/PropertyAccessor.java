@@ -0,0 +1,43 @@
+package io.simplejpa.metadata.accessor;
+
+/**
+ * 엔티티 필드 읽기/쓰기
+ * primitive 필드는 get/set 대신 타입별 메서드를 쓰면 boxing 없이 접근할 수 있다.
+ */
+public interface PropertyAccessor {
+    Object get(Object entity);
+
+    void set(Object entity, Object value);
+
+    default long getLong(Object entity) {
+        return ((Number) get(entity)).longValue();
+    }
+
+    default void setLong(Object entity, long value) {
+        set(entity, value);
+    }
+
+    default int getInt(Object entity) {
+        return ((Number) get(entity)).intValue();
+    }
+
+    default void setInt(Object entity, int value) {
+        set(entity, value);
+    }
+
+    default double getDouble(Object entity) {
+        return ((Number) get(entity)).doubleValue();
+    }
+
+    default void setDouble(Object entity, double value) {
+        set(entity, value);
+    }
+
+    default boolean getBoolean(Object entity) {
+        return (Boolean) get(entity);
+    }
+
+    default void setBoolean(Object entity, boolean value) {
+        set(entity, value);
+    }
+}
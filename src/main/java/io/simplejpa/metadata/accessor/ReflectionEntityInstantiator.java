@@ -0,0 +1,29 @@
+package io.simplejpa.metadata.accessor;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * LambdaMetafactory 를 사용할 수 없을 때 사용하는 reflection 기반 fallback
+ */
+public class ReflectionEntityInstantiator implements EntityInstantiator {
+    private final Constructor<?> constructor;
+
+    public ReflectionEntityInstantiator(Class<?> entityClass) {
+        try {
+            this.constructor = entityClass.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Class " + entityClass.getName() + " has no default constructor", e);
+        }
+    }
+
+    @Override
+    public Object newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create new instance of " +
+                    constructor.getDeclaringClass().getName(), e);
+        }
+    }
+}
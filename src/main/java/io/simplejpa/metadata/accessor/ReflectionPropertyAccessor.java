@@ -0,0 +1,36 @@
+package io.simplejpa.metadata.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * MethodHandle 을 만들 수 없을 때 사용하는 reflection 기반 fallback
+ */
+public class ReflectionPropertyAccessor implements PropertyAccessor {
+    private final Field field;
+
+    public ReflectionPropertyAccessor(Field field) {
+        this.field = field;
+        this.field.setAccessible(true);
+    }
+
+    @Override
+    public Object get(Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Field to get value is not accessible.", e);
+        }
+    }
+
+    @Override
+    public void set(Object entity, Object value) {
+        if (value == null && field.getType().isPrimitive()) {
+            return; // primitive 필드는 기본값 유지
+        }
+        try {
+            field.set(entity, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Field to set value is not accessible.", e);
+        }
+    }
+}
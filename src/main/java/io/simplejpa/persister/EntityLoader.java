@@ -1,39 +1,130 @@
 package io.simplejpa.persister;
 
-import io.simplejpa.cache.PersistenceContext;
+import io.simplejpa.cache.secondlevel.SecondLevelCache;
 import io.simplejpa.engine.jdbc.EntityResultSetExtractor;
+import io.simplejpa.engine.jdbc.EntityRowMapper;
 import io.simplejpa.engine.jdbc.JdbcExecutor;
+import io.simplejpa.engine.jdbc.RowMapperCache;
+import io.simplejpa.engine.sql.EntitySqlPlan;
 import io.simplejpa.engine.sql.SelectSqlGenerator;
-import io.simplejpa.engine.sql.SqlWithParameters;
 import io.simplejpa.metadata.EntityMetadata;
 import io.simplejpa.metadata.MetadataRegistry;
-import io.simplejpa.util.TypeConverter;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EntityLoader {
     private final MetadataRegistry metadataRegistry;
-    private final SelectSqlGenerator selectSqlGenerator;
     private final JdbcExecutor jdbcExecutor;
+    private final RowMapperCache rowMapperCache;
+    private final SecondLevelCache secondLevelCache;
+    private final SelectSqlGenerator selectSqlGenerator;
+    private final int multiLoadBatchSize;
+    // IN 절 크기별 SQL, 크기는 2의 거듭제곱으로 맞추므로 엔티티당 몇 개 되지 않는다
+    private final Map<MultiLoadKey, String> findByIdsSqls = new ConcurrentHashMap<>();
 
     public EntityLoader(
             MetadataRegistry metadataRegistry,
-            SelectSqlGenerator selectSqlGenerator,
-            JdbcExecutor jdbcExecutor
+            JdbcExecutor jdbcExecutor,
+            RowMapperCache rowMapperCache,
+            SecondLevelCache secondLevelCache,
+            int multiLoadBatchSize
     ) {
         this.metadataRegistry = metadataRegistry;
-        this.selectSqlGenerator = selectSqlGenerator;
         this.jdbcExecutor = jdbcExecutor;
+        this.rowMapperCache = rowMapperCache;
+        this.secondLevelCache = secondLevelCache;
+        this.selectSqlGenerator = new SelectSqlGenerator();
+        this.multiLoadBatchSize = multiLoadBatchSize;
     }
 
     public <T> T load(Connection connection, Class<T> entityClass, Object id) {
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(entityClass);
+        // 2차 캐시에 있으면 DB 를 조회하지 않는다
+        T cached = (T) secondLevelCache.get(sqlPlan.metadata(), id);
+        if (cached != null) {
+            return cached;
+        }
+        long loadStartedAt = System.nanoTime();
+        T entity = jdbcExecutor.executeQuery(
+                connection,
+                sqlPlan.findByIdSql(),
+                new EntityResultSetExtractor<T>(sqlPlan.metadata(), rowMapperCache),
+                id
+        );
+        if (entity != null) {
+            secondLevelCache.putFromLoad(sqlPlan.metadata(), entity, loadStartedAt);
+        }
+        return entity;
+    }
+
+    /**
+     * 여러 id 를 IN 절로 나눠 조회한다.
+     * 반환 map 에는 찾은 엔티티만 들어 있다. (key 는 DB 에서 읽은 id)
+     */
+    public <T> Map<Object, T> loadAll(Connection connection, Class<T> entityClass, List<Object> ids) {
         EntityMetadata metadata = metadataRegistry.getMetadata(entityClass);
-        SqlWithParameters sqlWithParameters = selectSqlGenerator.generateFindById(metadata, id);
+        Map<Object, T> loaded = new HashMap<>();
+        List<Object> missingIds = new ArrayList<>();
+        for (Object id : ids) {
+            T cached = (T) secondLevelCache.get(metadata, id);
+            if (cached != null) {
+                loaded.put(id, cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        for (int from = 0; from < missingIds.size(); from += multiLoadBatchSize) {
+            List<Object> chunk = missingIds.subList(from, Math.min(from + multiLoadBatchSize, missingIds.size()));
+            long loadStartedAt = System.nanoTime();
+            Map<Object, T> chunkResult = loadChunk(connection, metadata, chunk);
+            chunkResult.values().forEach(entity -> secondLevelCache.putFromLoad(metadata, entity, loadStartedAt));
+            loaded.putAll(chunkResult);
+        }
+        return loaded;
+    }
+
+    private <T> Map<Object, T> loadChunk(Connection connection, EntityMetadata metadata, List<Object> chunk) {
+        int paddedSize = paddedSize(chunk.size());
+        String sql = findByIdsSqls.computeIfAbsent(
+                new MultiLoadKey(metadata.getEntityClass(), paddedSize),
+                key -> selectSqlGenerator.createFindByIdsSql(metadata, key.idCount())
+        );
+        // 남는 자리는 마지막 id 로 채운다 (결과는 같고 SQL 모양만 재사용)
+        Object[] parameters = chunk.toArray(new Object[paddedSize]);
+        Arrays.fill(parameters, chunk.size(), paddedSize, chunk.get(chunk.size() - 1));
+
         return jdbcExecutor.executeQuery(
                 connection,
-                sqlWithParameters.sql(),
-                new EntityResultSetExtractor<T>(metadata, new TypeConverter()),
-                sqlWithParameters.parameters()
+                sql,
+                rs -> {
+                    Map<Object, T> results = new HashMap<>();
+                    EntityRowMapper<T> rowMapper = rowMapperCache.getRowMapper(metadata, rs);
+                    while (rs.next()) {
+                        Object id = rowMapper.readId(rs);
+                        results.put(id, rowMapper.mapRow(rs, id));
+                    }
+                    return results;
+                },
+                parameters
         );
     }
+
+    // 1, 2, 4, 8 ... multiLoadBatchSize 중 chunk 가 들어가는 가장 작은 크기
+    private int paddedSize(int idCount) {
+        if (idCount <= 1) {
+            return 1;
+        }
+        int powerOfTwo = Integer.highestOneBit(idCount - 1) << 1;
+        return Math.min(powerOfTwo, multiLoadBatchSize);
+    }
+
+    private record MultiLoadKey(Class<?> entityClass, int idCount) {
+    }
 }
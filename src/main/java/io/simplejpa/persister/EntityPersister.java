@@ -1,9 +1,7 @@
 package io.simplejpa.persister;
 
 import io.simplejpa.engine.jdbc.JdbcExecutor;
-import io.simplejpa.engine.sql.InsertSqlGenerator;
-import io.simplejpa.metadata.AttributeMetadata;
-import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.engine.sql.EntitySqlPlan;
 import io.simplejpa.metadata.MetadataRegistry;
 
 import java.sql.Connection;
@@ -11,40 +9,70 @@ import java.util.List;
 
 public class EntityPersister {
     private final JdbcExecutor jdbcExecutor;
-    private final InsertSqlGenerator insertSqlGenerator;
     private final MetadataRegistry metadataRegistry;
 
     public EntityPersister(
             JdbcExecutor jdbcExecutor,
-            InsertSqlGenerator insertSqlGenerator,
             MetadataRegistry metadataRegistry
     ) {
         this.jdbcExecutor = jdbcExecutor;
-        this.insertSqlGenerator = insertSqlGenerator;
         this.metadataRegistry = metadataRegistry;
     }
 
     public Object insert(Connection connection, Object entity) {
-        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(entity.getClass());
+        if (!sqlPlan.usesGeneratedKeys(entity)) {
+            jdbcExecutor.executeUpdate(connection, sqlPlan.insertSql(entity), entity, sqlPlan::bindInsert);
+            return sqlPlan.metadata().getIdentifierMetadata().getValue(entity);
+        }
         Object generatedId = jdbcExecutor.executeInsert(
                 connection,
-                insertSqlGenerator.generate(metadata, entity).sql(),
-                extractAttributes(entity, metadata)
+                sqlPlan.insertSql(),
+                entity,
+                sqlPlan::bindInsert
         );
 
         if (generatedId != null) {
-            metadata.getIdentifierMetadata().setValue(entity, generatedId);
+            sqlPlan.metadata().getIdentifierMetadata().setValue(entity, generatedId);
         }
 
         return generatedId;
     }
 
-    private Object[] extractAttributes(Object entity, EntityMetadata metadata) {
-        List<AttributeMetadata> attributeMetadatas = metadata.getAttributeMetadatas();
-        Object[] params = new Object[attributeMetadatas.size()];
-        for (int i = 0; i < attributeMetadatas.size(); i++) {
-            params[i] = attributeMetadatas.get(i).getValue(entity);
+    // id 를 넣은 엔티티와 generated key 를 받을 엔티티는 SQL 이 다르므로 연속 구간별로 나눠 실행한다
+    public void insertAll(Connection connection, List<Object> entities) {
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(entities.get(0).getClass());
+        int from = 0;
+        while (from < entities.size()) {
+            boolean usesGeneratedKeys = sqlPlan.usesGeneratedKeys(entities.get(from));
+            int to = from + 1;
+            while (to < entities.size() && sqlPlan.usesGeneratedKeys(entities.get(to)) == usesGeneratedKeys) {
+                to++;
+            }
+            List<Object> run = entities.subList(from, to);
+            if (usesGeneratedKeys) {
+                insertAllWithGeneratedKeys(connection, sqlPlan, run);
+            } else {
+                // id 를 미리 할당했으면 generated key 없이 일반 batch 로 실행한다
+                jdbcExecutor.executeBatch(connection, sqlPlan.assignedIdInsertSql(), run, sqlPlan::bindInsert);
+            }
+            from = to;
+        }
+    }
+
+    private void insertAllWithGeneratedKeys(Connection connection, EntitySqlPlan sqlPlan, List<Object> entities) {
+        List<Object> generatedIds = jdbcExecutor.executeInsertBatch(
+                connection,
+                sqlPlan.insertSql(),
+                entities,
+                sqlPlan::bindInsert
+        );
+
+        for (int i = 0; i < entities.size(); i++) {
+            Object generatedId = generatedIds.get(i);
+            if (generatedId != null) {
+                sqlPlan.metadata().getIdentifierMetadata().setValue(entities.get(i), generatedId);
+            }
         }
-        return params;
     }
 }
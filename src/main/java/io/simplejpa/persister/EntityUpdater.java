@@ -2,46 +2,109 @@ package io.simplejpa.persister;
 
 import io.simplejpa.cache.EntityEntry;
 import io.simplejpa.engine.jdbc.JdbcExecutor;
-import io.simplejpa.engine.sql.SqlWithParameters;
+import io.simplejpa.engine.sql.DynamicUpdatePlanCache;
+import io.simplejpa.engine.sql.EntitySqlPlan;
+import io.simplejpa.engine.sql.ParameterCollector;
 import io.simplejpa.engine.sql.UpdateSqlGenerator;
+import io.simplejpa.engine.sql.UpdateSqlPlan;
 import io.simplejpa.metadata.EntityMetadata;
 import io.simplejpa.metadata.MetadataRegistry;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class EntityUpdater {
     private final MetadataRegistry metadataRegistry;
-    private final UpdateSqlGenerator updateSqlGenerator;
     private final JdbcExecutor jdbcExecutor;
+    private final DynamicUpdatePlanCache dynamicUpdatePlanCache;
+    private final boolean dynamicUpdate; // true 면 @DynamicUpdate 가 없어도 모든 엔티티에 적용
 
     public EntityUpdater(
             MetadataRegistry metadataRegistry,
-            UpdateSqlGenerator updateSqlGenerator,
             JdbcExecutor jdbcExecutor
+    ) {
+        this(metadataRegistry, jdbcExecutor, false);
+    }
+
+    public EntityUpdater(
+            MetadataRegistry metadataRegistry,
+            JdbcExecutor jdbcExecutor,
+            boolean dynamicUpdate
     ) {
         this.metadataRegistry = metadataRegistry;
-        this.updateSqlGenerator = updateSqlGenerator;
         this.jdbcExecutor = jdbcExecutor;
+        this.dynamicUpdatePlanCache = new DynamicUpdatePlanCache(new UpdateSqlGenerator(new ParameterCollector()));
+        this.dynamicUpdate = dynamicUpdate;
     }
 
     public void update(Connection connection, Object entity, EntityEntry entityEntry) {
-        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
-        SqlWithParameters sqlWithParameters = updateSqlGenerator.generateUpdateSql(
-                metadata,
-                entity
-        );
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(entity.getClass());
+        if (isDynamicUpdate(sqlPlan.metadata())) {
+            BitSet dirtyAttributes = entityEntry.getDirtyAttributes();
+            if (dirtyAttributes.isEmpty()) {
+                return;
+            }
+            UpdateSqlPlan updatePlan = dynamicUpdatePlanCache.getUpdatePlan(sqlPlan.metadata(), dirtyAttributes);
+            jdbcExecutor.executeUpdate(connection, updatePlan.sql(), entity, updatePlan::bind);
+            return;
+        }
+
+        if (sqlPlan.updateAttributes().isEmpty()) {
+            return;
+        }
         jdbcExecutor.executeUpdate(
                 connection,
-                sqlWithParameters.sql(),
-                sqlWithParameters.parameters()
+                sqlPlan.updateSql(),
+                entity,
+                sqlPlan::bindUpdate
         );
     }
 
-    public Object[] extractUpdateValues(Object entity) {
-        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
-        return metadata.getAttributeMetadatas().stream()
-                .map(attributeMetadata -> attributeMetadata.getValue(entity))
-                .toArray();
+    public void updateAll(Connection connection, List<EntityEntry> entityEntries) {
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(entityEntries.get(0).getEntity().getClass());
+        if (isDynamicUpdate(sqlPlan.metadata())) {
+            updateAllDynamically(connection, sqlPlan.metadata(), entityEntries);
+            return;
+        }
+
+        if (sqlPlan.updateAttributes().isEmpty()) {
+            return;
+        }
+        List<Object> entities = entityEntries.stream().map(EntityEntry::getEntity).toList();
+        jdbcExecutor.executeBatch(connection, sqlPlan.updateSql(), entities, sqlPlan::bindUpdate);
+    }
+
+    // 변경된 컬럼 조합(= 같은 SQL) 별로 묶어서 batch
+    private void updateAllDynamically(
+            Connection connection,
+            EntityMetadata metadata,
+            List<EntityEntry> entityEntries
+    ) {
+        Map<BitSet, List<Object>> entitiesByDirtyAttributes = new LinkedHashMap<>();
+        for (EntityEntry entityEntry : entityEntries) {
+            BitSet dirtyAttributes = entityEntry.getDirtyAttributes();
+            if (!dirtyAttributes.isEmpty()) {
+                entitiesByDirtyAttributes.computeIfAbsent(dirtyAttributes, mask -> new ArrayList<>())
+                        .add(entityEntry.getEntity());
+            }
+        }
+
+        entitiesByDirtyAttributes.forEach((dirtyAttributes, entities) -> {
+            UpdateSqlPlan updatePlan = dynamicUpdatePlanCache.getUpdatePlan(metadata, dirtyAttributes);
+            jdbcExecutor.executeBatch(connection, updatePlan.sql(), entities, updatePlan::bind);
+        });
+    }
+
+    private boolean isDynamicUpdate(EntityMetadata metadata) {
+        return dynamicUpdate || metadata.isDynamicUpdate();
+    }
+
+    public void updateSnapShot(Object entity, EntityEntry entityEntry) {
+        entityEntry.updateSnapShot(metadataRegistry.getMetadata(entity.getClass()));
     }
 
 }
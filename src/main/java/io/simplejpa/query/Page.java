@@ -0,0 +1,21 @@
+package io.simplejpa.query;
+
+import java.util.List;
+
+/**
+ * 한 페이지의 결과와 조건에 맞는 전체 row 수
+ */
+public record Page<T>(
+        List<T> content,
+        long totalCount,
+        int firstResult,
+        int maxResults
+) {
+    public Page {
+        content = List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return (long) firstResult + content.size() < totalCount;
+    }
+}
@@ -1,13 +1,22 @@
 package io.simplejpa.query;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface Query {
     List<Object> getResultList();
 
+    CompletableFuture<List<Object>> getResultListAsync();
+
     Object getSingleResult();
 
+    Query setFirstResult(int firstResult);
+
+    Query setMaxResults(int maxResults);
+
     Query setParameter(String name, Object value); // named
 
     Query setParameter(int position, Object value); // positional
+
+    Query setHint(String hintName, Object value); // QueryHints
 }
@@ -0,0 +1,38 @@
+package io.simplejpa.query;
+
+/**
+ * setHint 에 사용할 수 있는 hint 이름
+ */
+public final class QueryHints {
+    // true 면 조회한 엔티티를 snapshot 없이 읽기 전용으로 등록한다
+    public static final String READ_ONLY = "simplejpa.readOnly";
+
+    // getResultStream, getResultCursor 에서 한 번에 가져올 row 수 (JDBC fetch size)
+    public static final String FETCH_SIZE = "simplejpa.fetchSize";
+
+    // true 면 stream 으로 읽은 엔티티를 영속성 컨텍스트에 등록하지 않는다
+    public static final String DETACHED = "simplejpa.detached";
+
+    // true 면 getResultList 결과의 id 목록을 query 결과 cache 에 저장하고 재사용한다
+    public static final String CACHEABLE = "simplejpa.cacheable";
+
+    private QueryHints() {
+    }
+
+    public static int toInt(Object hintValue) {
+        if (hintValue == null) {
+            return 0;
+        }
+        if (hintValue instanceof Number number) {
+            return number.intValue();
+        }
+        return Integer.parseInt(hintValue.toString());
+    }
+
+    public static boolean isEnabled(Object hintValue) {
+        if (hintValue instanceof Boolean booleanValue) {
+            return booleanValue;
+        }
+        return hintValue != null && Boolean.parseBoolean(hintValue.toString());
+    }
+}
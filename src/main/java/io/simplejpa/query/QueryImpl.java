@@ -6,6 +6,7 @@ import lombok.Getter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Getter
 public class QueryImpl implements Query {
@@ -13,17 +14,28 @@ public class QueryImpl implements Query {
     private final QueryExecutor queryExecutor;
     private final Map<String, Object> namedParameters;
     private final Map<Integer, Object> positionalParameters;
+    private final Map<String, Object> hints;
+    private int firstResult;
+    private int maxResults;
 
     public QueryImpl(String jpql, QueryExecutor queryExecutor) {
         this.jpql = jpql;
         this.queryExecutor = queryExecutor;
         this.namedParameters = new HashMap<>();
         this.positionalParameters = new HashMap<>();
+        this.hints = new HashMap<>();
+        this.firstResult = RowBounds.NONE.firstResult();
+        this.maxResults = RowBounds.NONE.maxResults();
     }
 
     @Override
     public List<Object> getResultList() {
-        return queryExecutor.executeQuery(jpql, Object.class, namedParameters, positionalParameters);
+        return queryExecutor.executeQuery(jpql, Object.class, namedParameters, positionalParameters, hints, getRowBounds());
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> getResultListAsync() {
+        return queryExecutor.executeQueryAsync(jpql, Object.class, namedParameters, positionalParameters, hints, getRowBounds());
     }
 
     @Override
@@ -52,4 +64,32 @@ public class QueryImpl implements Query {
         positionalParameters.put(position, value);
         return this;
     }
+
+    @Override
+    public Query setFirstResult(int firstResult) {
+        if (firstResult < 0) {
+            throw new IllegalArgumentException("First result cannot be negative");
+        }
+        this.firstResult = firstResult;
+        return this;
+    }
+
+    @Override
+    public Query setMaxResults(int maxResults) {
+        if (maxResults < 0) {
+            throw new IllegalArgumentException("Max results cannot be negative");
+        }
+        this.maxResults = maxResults;
+        return this;
+    }
+
+    private RowBounds getRowBounds() {
+        return new RowBounds(firstResult, maxResults);
+    }
+
+    @Override
+    public Query setHint(String hintName, Object value) {
+        hints.put(hintName, value);
+        return this;
+    }
 }
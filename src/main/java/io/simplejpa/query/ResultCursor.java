@@ -0,0 +1,12 @@
+package io.simplejpa.query;
+
+import java.util.Iterator;
+
+/**
+ * 결과를 한 건씩 읽는 cursor
+ * 다 읽거나 close 하면 statement 와 result set 이 닫힌다. 트랜잭션이 끝나도 닫힌다.
+ */
+public interface ResultCursor<T> extends Iterator<T>, AutoCloseable {
+    @Override
+    void close();
+}
@@ -0,0 +1,45 @@
+package io.simplejpa.query;
+
+import io.simplejpa.query.jpql.PageShape;
+
+/**
+ * setFirstResult, setMaxResults 로 지정한 조회 범위
+ */
+public record RowBounds(
+        int firstResult,
+        int maxResults
+) {
+    public static final RowBounds NONE = new RowBounds(0, Integer.MAX_VALUE);
+
+    public RowBounds {
+        if (firstResult < 0) {
+            throw new IllegalArgumentException("First result cannot be negative");
+        }
+        if (maxResults < 0) {
+            throw new IllegalArgumentException("Max results cannot be negative");
+        }
+    }
+
+    public boolean isLimited() {
+        return maxResults != Integer.MAX_VALUE;
+    }
+
+    public PageShape toPageShape(boolean withTotalCount) {
+        return new PageShape(isLimited(), firstResult > 0, withTotalCount);
+    }
+
+    // PageShape 의 LIMIT, OFFSET 순서대로 파라미터 값을 붙인다
+    public Object[] appendTo(Object[] parameters) {
+        PageShape pageShape = toPageShape(false);
+        Object[] boundParameters = new Object[parameters.length + pageShape.parameterCount()];
+        System.arraycopy(parameters, 0, boundParameters, 0, parameters.length);
+        int index = parameters.length;
+        if (pageShape.limited()) {
+            boundParameters[index++] = maxResults;
+        }
+        if (pageShape.offset()) {
+            boundParameters[index] = firstResult;
+        }
+        return boundParameters;
+    }
+}
@@ -1,13 +1,32 @@
 package io.simplejpa.query;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface TypedQuery<T> {
     List<T> getResultList();
 
+    // 별도 connection 의 읽기 전용 트랜잭션에서 실행하며, 결과 엔티티는 detached 상태다
+    CompletableFuture<List<T>> getResultListAsync();
+
+    // 다 쓴 뒤 close 해야 한다. (try-with-resources)
+    Stream<T> getResultStream();
+
+    ResultCursor<T> getResultCursor();
+
+    // 한 페이지와 전체 건수를 한 번의 조회로 가져온다 (setFirstResult, setMaxResults 기준)
+    Page<T> getResultPage();
+
+    TypedQuery<T> setFirstResult(int firstResult);
+
+    TypedQuery<T> setMaxResults(int maxResults);
+
     T getSingleResult();
 
     TypedQuery<T> setParameter(String name, Object value); // named
 
     TypedQuery<T> setParameter(int position, Object value); // positional
+
+    TypedQuery<T> setHint(String hintName, Object value); // QueryHints
 }
@@ -6,6 +6,11 @@ import lombok.Getter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Getter
 public class TypedQueryImpl<T> implements TypedQuery<T> {
@@ -14,6 +19,9 @@ public class TypedQueryImpl<T> implements TypedQuery<T> {
     private final Class<T> resultClass;
     private final Map<String, Object> namedParameters;
     private final Map<Integer, Object> positionalParameters;
+    private final Map<String, Object> hints;
+    private int firstResult;
+    private int maxResults;
 
     public TypedQueryImpl(String jpql, QueryExecutor queryExecutor, Class<T> resultClass) {
         this.jpql = jpql;
@@ -21,11 +29,36 @@ public class TypedQueryImpl<T> implements TypedQuery<T> {
         this.resultClass = resultClass;
         this.namedParameters = new HashMap<>();
         this.positionalParameters = new HashMap<>();
+        this.hints = new HashMap<>();
+        this.firstResult = RowBounds.NONE.firstResult();
+        this.maxResults = RowBounds.NONE.maxResults();
     }
 
     @Override
     public List<T> getResultList() {
-        return queryExecutor.executeQuery(jpql, resultClass, namedParameters, positionalParameters);
+        return queryExecutor.executeQuery(jpql, resultClass, namedParameters, positionalParameters, hints, getRowBounds());
+    }
+
+    @Override
+    public CompletableFuture<List<T>> getResultListAsync() {
+        return queryExecutor.executeQueryAsync(jpql, resultClass, namedParameters, positionalParameters, hints, getRowBounds());
+    }
+
+    @Override
+    public Stream<T> getResultStream() {
+        ResultCursor<T> cursor = getResultCursor();
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
+    }
+
+    @Override
+    public ResultCursor<T> getResultCursor() {
+        return queryExecutor.openCursor(jpql, resultClass, namedParameters, positionalParameters, hints, getRowBounds());
+    }
+
+    @Override
+    public Page<T> getResultPage() {
+        return queryExecutor.executeQueryForPage(jpql, resultClass, namedParameters, positionalParameters, hints, getRowBounds());
     }
 
     @Override
@@ -54,4 +87,32 @@ public class TypedQueryImpl<T> implements TypedQuery<T> {
         positionalParameters.put(position, value);
         return this;
     }
+
+    @Override
+    public TypedQuery<T> setFirstResult(int firstResult) {
+        if (firstResult < 0) {
+            throw new IllegalArgumentException("First result cannot be negative");
+        }
+        this.firstResult = firstResult;
+        return this;
+    }
+
+    @Override
+    public TypedQuery<T> setMaxResults(int maxResults) {
+        if (maxResults < 0) {
+            throw new IllegalArgumentException("Max results cannot be negative");
+        }
+        this.maxResults = maxResults;
+        return this;
+    }
+
+    private RowBounds getRowBounds() {
+        return new RowBounds(firstResult, maxResults);
+    }
+
+    @Override
+    public TypedQuery<T> setHint(String hintName, Object value) {
+        hints.put(hintName, value);
+        return this;
+    }
 }
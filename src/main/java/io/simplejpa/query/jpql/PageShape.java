@@ -0,0 +1,23 @@
+package io.simplejpa.query.jpql;
+
+/**
+ * 페이징 SQL 모양, LIMIT/OFFSET 값은 파라미터로 바인딩하므로 모양만 같으면 plan 을 공유한다.
+ */
+public record PageShape(
+        boolean limited,
+        boolean offset,
+        boolean withTotalCount
+) {
+    public static final PageShape NONE = new PageShape(false, false, false);
+
+    // MySQL 처럼 LIMIT 없는 OFFSET 을 받지 않는 DB 가 있으므로 OFFSET 에는 항상 LIMIT 을 붙인다
+    // (setMaxResults 가 없으면 RowBounds 가 Integer.MAX_VALUE 를 바인딩한다)
+    public PageShape {
+        limited = limited || offset;
+    }
+
+    // 원래 파라미터 뒤에 붙는 LIMIT, OFFSET 파라미터 수
+    public int parameterCount() {
+        return (limited ? 1 : 0) + (offset ? 1 : 0);
+    }
+}
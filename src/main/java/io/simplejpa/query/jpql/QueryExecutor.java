@@ -1,17 +1,51 @@
 package io.simplejpa.query.jpql;
 
+import io.simplejpa.query.Page;
 import io.simplejpa.query.Query;
+import io.simplejpa.query.ResultCursor;
+import io.simplejpa.query.RowBounds;
 import io.simplejpa.query.TypedQuery;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface QueryExecutor {
     <T> List<T> executeQuery(
             String jpql,
             Class<T> resultClass,
             Map<String, Object> namedParameters,
-            Map<Integer, Object> positionalParameters
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    );
+
+    // 호출 시점의 파라미터로 별도 읽기 전용 트랜잭션에서 실행한다
+    <T> CompletableFuture<List<T>> executeQueryAsync(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    );
+
+    <T> ResultCursor<T> openCursor(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
+    );
+
+    <T> Page<T> executeQueryForPage(
+            String jpql,
+            Class<T> resultClass,
+            Map<String, Object> namedParameters,
+            Map<Integer, Object> positionalParameters,
+            Map<String, Object> hints,
+            RowBounds rowBounds
     );
 
     Query createQuery(String jpql);
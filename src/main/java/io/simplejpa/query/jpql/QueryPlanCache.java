@@ -0,0 +1,101 @@
+package io.simplejpa.query.jpql;
+
+import io.simplejpa.query.jpql.ast.SelectStatement;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * factory 범위의 (JPQL, 페이징 모양) -> TranslatedQuery cache
+ * 크기를 넘으면 먼저 들어온 plan 부터 제거한다.
+ */
+public class QueryPlanCache {
+    private final int maxSize;
+    private final JpqlParser jpqlParser;
+    private final QueryTranslator queryTranslator;
+    private final Map<PlanKey, TranslatedQuery> plans = new ConcurrentHashMap<>();
+    private final Queue<PlanKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public QueryPlanCache(
+            int maxSize,
+            JpqlParser jpqlParser,
+            QueryTranslator queryTranslator
+    ) {
+        validateMaxSize(maxSize);
+        this.maxSize = maxSize;
+        this.jpqlParser = jpqlParser;
+        this.queryTranslator = queryTranslator;
+    }
+
+    private void validateMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Query plan cache size must be at least 1");
+        }
+    }
+
+    public TranslatedQuery getTranslatedQuery(String jpql) {
+        return getTranslatedQuery(jpql, PageShape.NONE);
+    }
+
+    public TranslatedQuery getTranslatedQuery(String jpql, PageShape pageShape) {
+        PlanKey key = new PlanKey(jpql, pageShape);
+        TranslatedQuery cached = plans.get(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        TranslatedQuery translatedQuery = plans.computeIfAbsent(key, this::translate);
+        evictIfNecessary();
+        return translatedQuery;
+    }
+
+    private TranslatedQuery translate(PlanKey key) {
+        missCount.increment();
+        SelectStatement selectStatement = jpqlParser.parse(key.jpql());
+        TranslatedQuery translatedQuery = queryTranslator.translate(selectStatement, key.pageShape());
+        insertionOrder.offer(key);
+        return translatedQuery;
+    }
+
+    private void evictIfNecessary() {
+        while (plans.size() > maxSize) {
+            PlanKey eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            plans.remove(eldest);
+        }
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public void clear() {
+        plans.clear();
+        insertionOrder.clear();
+    }
+
+    private record PlanKey(String jpql, PageShape pageShape) {
+    }
+}
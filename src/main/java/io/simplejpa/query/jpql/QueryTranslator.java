@@ -6,10 +6,12 @@ import io.simplejpa.query.jpql.ast.Condition;
 import io.simplejpa.query.jpql.ast.SelectStatement;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class QueryTranslator {
+    // 페이지 조회와 함께 가져오는 전체 건수 컬럼, 항상 마지막 컬럼이다
+    public static final String TOTAL_COUNT_COLUMN = "simplejpa_total_count";
+
     private final MetadataRegistry metadataRegistry;
 
     public QueryTranslator(MetadataRegistry metadataRegistry) {
@@ -17,24 +19,39 @@ public class QueryTranslator {
     }
 
     public TranslatedQuery translate(SelectStatement selectStatement) {
+        return translate(selectStatement, PageShape.NONE);
+    }
+
+    public TranslatedQuery translate(SelectStatement selectStatement, PageShape pageShape) {
         EntityMetadata metadata = metadataRegistry.getMetadataByEntityName(selectStatement.entityName());
 
-        StringBuilder sql = new StringBuilder("SELECT * FROM ");
-        sql.append(metadata.getTableName());
+        StringBuilder fromWhere = new StringBuilder(" FROM ");
+        fromWhere.append(metadata.getTableName());
+
+        List<String> parameterOrder = new ArrayList<>();
+        appendWhereClause(fromWhere, selectStatement.whereClause().conditions(), parameterOrder, metadata);
+
+        String sql = createSelectClause(metadata, pageShape) + fromWhere + createPagingClause(pageShape);
+        String countSql = pageShape.withTotalCount() ? "SELECT COUNT(*)" + fromWhere : null;
+        return new TranslatedQuery(sql, parameterOrder, metadata.getEntityClass(), pageShape, countSql);
+    }
 
-        List<Condition> conditions = selectStatement.whereClause().conditions();
+    private void appendWhereClause(
+            StringBuilder sql,
+            List<Condition> conditions,
+            List<String> parameterOrder,
+            EntityMetadata metadata
+    ) {
         if (conditions.isEmpty()) {
-            return new TranslatedQuery(sql.toString(), Collections.emptyList());
+            return;
         }
 
         sql.append(" WHERE ");
-        List<String> parameterOrder = new ArrayList<>();
-
         for (int i = 0; i < conditions.size(); i++) {
             Condition condition = conditions.get(i);
             String columnName = convertFieldNameToColumName(condition, metadata);
 
-            // ex. "SELECT * FROM users WHERE name = ? WHERE age > ?"
+            // ex. "SELECT * FROM users WHERE name = ? AND age > ?"
             if (i > 0) {
                 sql.append(" AND ");
             }
@@ -45,9 +62,25 @@ public class QueryTranslator {
 
             parameterOrder.add(condition.rightSide());
         }
+    }
 
+    // window 함수로 같은 scan 에서 전체 건수를 함께 계산한다
+    private String createSelectClause(EntityMetadata metadata, PageShape pageShape) {
+        if (pageShape.withTotalCount()) {
+            return "SELECT " + metadata.getTableName() + ".*, COUNT(*) OVER() AS " + TOTAL_COUNT_COLUMN;
+        }
+        return "SELECT *";
+    }
 
-        return new TranslatedQuery(sql.toString(), parameterOrder);
+    private String createPagingClause(PageShape pageShape) {
+        StringBuilder paging = new StringBuilder();
+        if (pageShape.limited()) {
+            paging.append(" LIMIT ?");
+        }
+        if (pageShape.offset()) {
+            paging.append(" OFFSET ?");
+        }
+        return paging.toString();
     }
 
     private String convertFieldNameToColumName(Condition condition, EntityMetadata metadata) {
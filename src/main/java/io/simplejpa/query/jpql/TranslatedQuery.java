@@ -1,9 +1,38 @@
 package io.simplejpa.query.jpql;
 
+import io.simplejpa.engine.jdbc.QueryParameterBinder;
+
 import java.util.List;
 
+/**
+ * 실행 계획: 변환된 SQL, 파라미터 바인딩 순서, 결과를 매핑할 엔티티 타입
+ * QueryPlanCache 에서 스레드 간 공유되므로 불변이어야 한다. (parameterBinder 는 자리별 타입만 기억한다)
+ * 페이징 plan 은 parameterOrder 뒤에 LIMIT, OFFSET 파라미터가 붙고, 전체 건수 plan 은 countSql 을 가진다.
+ */
 public record TranslatedQuery(
         String sql,
-        List<String> parameterOrder
+        List<String> parameterOrder,
+        Class<?> entityClass,
+        PageShape pageShape,
+        String countSql,
+        QueryParameterBinder parameterBinder
 ) {
+    public TranslatedQuery {
+        parameterOrder = List.copyOf(parameterOrder);
+    }
+
+    public TranslatedQuery(String sql, List<String> parameterOrder, Class<?> entityClass) {
+        this(sql, parameterOrder, entityClass, PageShape.NONE, null);
+    }
+
+    public TranslatedQuery(
+            String sql,
+            List<String> parameterOrder,
+            Class<?> entityClass,
+            PageShape pageShape,
+            String countSql
+    ) {
+        this(sql, parameterOrder, entityClass, pageShape, countSql,
+                new QueryParameterBinder(parameterOrder.size() + pageShape.parameterCount()));
+    }
 }
@@ -0,0 +1,94 @@
+package io.simplejpa.stat;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2의 거듭제곱 마이크로초 구간별 LongAdder histogram
+ * 기록은 lock 없이 LongAdder 하나만 증가시키며, percentile 은 구간 상한으로 근사한다.
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = 32; // 2^31 us (약 36분) 이상은 마지막 구간
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        long micros = Math.max(0L, elapsedNanos / 1_000L);
+        int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long sampleCount = getCount();
+        return sampleCount == 0 ? 0.0 : (double) getTotalNanos() / sampleCount;
+    }
+
+    /**
+     * quantile(0.0 ~ 1.0) 이 속한 구간의 상한 (나노초)
+     */
+    public long getPercentileNanos(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        long sampleCount = getCount();
+        if (sampleCount == 0) {
+            return 0L;
+        }
+        long target = (long) Math.ceil(quantile * sampleCount);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i].sum();
+            if (seen >= target && seen > 0) {
+                return Math.min(upperBoundNanos(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    private long upperBoundNanos(int bucket) {
+        return bucket == 0 ? 1_000L : (1L << bucket) * 1_000L;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", meanNanos=" + (long) getMeanNanos() +
+                ", p99Nanos=" + getPercentileNanos(0.99) +
+                ", maxNanos=" + getMaxNanos() +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package io.simplejpa.stat;
+
+import lombok.Getter;
+
+/**
+ * SQL 모양 하나의 실행 횟수와 latency
+ */
+@Getter
+public class SqlStatistics {
+    private final String sql;
+    private final StatementType statementType;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public SqlStatistics(String sql) {
+        this.sql = sql;
+        this.statementType = StatementType.of(sql);
+    }
+
+    public long getExecutionCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatistics{" +
+                "sql='" + sql + '\'' +
+                ", latency=" + latency +
+                '}';
+    }
+}
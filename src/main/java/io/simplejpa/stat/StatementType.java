@@ -0,0 +1,23 @@
+package io.simplejpa.stat;
+
+import java.util.Locale;
+
+public enum StatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    // SQL 첫 단어로 구분한다, SQL 모양마다 한 번만 호출된다
+    public static StatementType of(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return switch (trimmed.substring(0, end).toUpperCase(Locale.ROOT)) {
+            case "SELECT", "WITH" -> SELECT;
+            case "INSERT" -> INSERT;
+            case "UPDATE" -> UPDATE;
+            case "DELETE" -> DELETE;
+            default -> OTHER;
+        };
+    }
+}
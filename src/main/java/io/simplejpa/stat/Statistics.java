@@ -0,0 +1,231 @@
+package io.simplejpa.stat;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * factory 범위 실행 통계
+ * 여러 스레드가 동시에 기록하므로 카운터는 모두 LongAdder 를 사용한다.
+ * 꺼져 있으면 기록 메서드는 바로 반환하고, 시간 측정(System.nanoTime)도 하지 않는다.
+ */
+public class Statistics {
+    private static final int MAX_SQL_SHAPES = 1_000; // 그 이상은 종류별 카운터에만 반영
+
+    private volatile boolean enabled;
+    private final Map<StatementType, LongAdder> statementCounts = new EnumMap<>(StatementType.class);
+    private final Map<String, SqlStatistics> sqlStatistics = new ConcurrentHashMap<>();
+    private final LongAdder entityLoadCount = new LongAdder();
+    private final LongAdder entityInsertCount = new LongAdder();
+    private final LongAdder entityUpdateCount = new LongAdder();
+    private final LongAdder entityDeleteCount = new LongAdder();
+    private final LongAdder firstLevelCacheHitCount = new LongAdder();
+    private final LongAdder firstLevelCacheMissCount = new LongAdder();
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder rollbackCount = new LongAdder();
+    private final LatencyHistogram flushes = new LatencyHistogram();
+    private final LatencyHistogram connectionAcquires = new LatencyHistogram();
+    private final LatencyHistogram transactions = new LatencyHistogram();
+
+    public Statistics(boolean enabled) {
+        this.enabled = enabled;
+        for (StatementType statementType : StatementType.values()) {
+            statementCounts.put(statementType, new LongAdder());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // 꺼져 있으면 0, 기록 메서드에 그대로 넘기면 된다
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordStatement(String sql, long startedAt) {
+        if (!enabled || startedAt == 0L) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        SqlStatistics statistics = sqlStatistics.get(sql);
+        if (statistics == null && sqlStatistics.size() < MAX_SQL_SHAPES) {
+            statistics = sqlStatistics.computeIfAbsent(sql, SqlStatistics::new);
+        }
+        if (statistics == null) {
+            statementCounts.get(StatementType.of(sql)).increment();
+            return;
+        }
+        statementCounts.get(statistics.getStatementType()).increment();
+        statistics.getLatency().record(elapsedNanos);
+    }
+
+    public void recordEntityLoad() {
+        if (enabled) {
+            entityLoadCount.increment();
+        }
+    }
+
+    public void recordEntityInserts(int count) {
+        if (enabled) {
+            entityInsertCount.add(count);
+        }
+    }
+
+    public void recordEntityUpdates(int count) {
+        if (enabled) {
+            entityUpdateCount.add(count);
+        }
+    }
+
+    public void recordEntityDeletes(int count) {
+        if (enabled) {
+            entityDeleteCount.add(count);
+        }
+    }
+
+    public void recordFirstLevelCacheHit() {
+        if (enabled) {
+            firstLevelCacheHitCount.increment();
+        }
+    }
+
+    public void recordFirstLevelCacheMiss() {
+        if (enabled) {
+            firstLevelCacheMissCount.increment();
+        }
+    }
+
+    public void recordFlush(long startedAt) {
+        recordElapsed(flushes, startedAt);
+    }
+
+    public void recordConnectionAcquire(long startedAt) {
+        recordElapsed(connectionAcquires, startedAt);
+    }
+
+    public void recordTransaction(long startedAt, boolean committed) {
+        if (!enabled || startedAt == 0L) {
+            return;
+        }
+        (committed ? commitCount : rollbackCount).increment();
+        transactions.record(System.nanoTime() - startedAt);
+    }
+
+    private void recordElapsed(LatencyHistogram histogram, long startedAt) {
+        if (enabled && startedAt != 0L) {
+            histogram.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    public long getStatementCount(StatementType statementType) {
+        return statementCounts.get(statementType).sum();
+    }
+
+    public long getStatementCount() {
+        long total = 0;
+        for (LongAdder count : statementCounts.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    public SqlStatistics getSqlStatistics(String sql) {
+        return sqlStatistics.get(sql);
+    }
+
+    public Collection<SqlStatistics> getSqlStatistics() {
+        return sqlStatistics.values();
+    }
+
+    public long getEntityLoadCount() {
+        return entityLoadCount.sum();
+    }
+
+    public long getEntityInsertCount() {
+        return entityInsertCount.sum();
+    }
+
+    public long getEntityUpdateCount() {
+        return entityUpdateCount.sum();
+    }
+
+    public long getEntityDeleteCount() {
+        return entityDeleteCount.sum();
+    }
+
+    public long getFirstLevelCacheHitCount() {
+        return firstLevelCacheHitCount.sum();
+    }
+
+    public long getFirstLevelCacheMissCount() {
+        return firstLevelCacheMissCount.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.getCount();
+    }
+
+    public LatencyHistogram getFlushes() {
+        return flushes;
+    }
+
+    public LatencyHistogram getConnectionAcquires() {
+        return connectionAcquires;
+    }
+
+    public long getTransactionCount() {
+        return transactions.getCount();
+    }
+
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    public long getRollbackCount() {
+        return rollbackCount.sum();
+    }
+
+    public LatencyHistogram getTransactions() {
+        return transactions;
+    }
+
+    public void reset() {
+        statementCounts.values().forEach(LongAdder::reset);
+        sqlStatistics.clear();
+        entityLoadCount.reset();
+        entityInsertCount.reset();
+        entityUpdateCount.reset();
+        entityDeleteCount.reset();
+        firstLevelCacheHitCount.reset();
+        firstLevelCacheMissCount.reset();
+        commitCount.reset();
+        rollbackCount.reset();
+        flushes.reset();
+        connectionAcquires.reset();
+        transactions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Statistics{" +
+                "enabled=" + enabled +
+                ", statements=" + getStatementCount() +
+                ", entityLoads=" + getEntityLoadCount() +
+                ", entityInserts=" + getEntityInsertCount() +
+                ", entityUpdates=" + getEntityUpdateCount() +
+                ", entityDeletes=" + getEntityDeleteCount() +
+                ", firstLevelCacheHits=" + getFirstLevelCacheHitCount() +
+                ", firstLevelCacheMisses=" + getFirstLevelCacheMissCount() +
+                ", flushes=" + flushes +
+                ", connectionAcquires=" + connectionAcquires +
+                ", transactions=" + transactions +
+                '}';
+    }
+}
@@ -3,22 +3,40 @@ package io.simplejpa.transaction;
 import io.simplejpa.core.EntityTransaction;
 import io.simplejpa.engine.connection.ConnectionProvider;
 import io.simplejpa.exception.JdbcException;
+import io.simplejpa.jfr.ConnectionAcquireEvent;
+import io.simplejpa.jfr.TransactionEvent;
+import io.simplejpa.stat.Statistics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 public class JdbcTransaction implements TransactionCoordinator, EntityTransaction {
     private final ConnectionProvider connectionProvider;
+    private final Statistics statistics;
     private Connection connection;
+    private long startedAt; // 통계용, 꺼져 있으면 0
     private TransactionStatus status;
+    private boolean readOnly;
+    // 트랜잭션이 끝날 때 함께 닫아야 하는 cursor 등
+    private final Set<AutoCloseable> openResources = Collections.newSetFromMap(new IdentityHashMap<>());
 
     private Runnable flushCallback;
     private Runnable clearCallback;
+    private Runnable afterCommitCallback;
 
     public JdbcTransaction(ConnectionProvider connectionProvider) {
+        this(connectionProvider, new Statistics(false));
+    }
+
+    public JdbcTransaction(ConnectionProvider connectionProvider, Statistics statistics) {
         this.connectionProvider = connectionProvider;
+        this.statistics = statistics;
         this.status = TransactionStatus.NOT_ACTIVE;
     }
 
@@ -35,14 +53,49 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
         if (this.status != TransactionStatus.NOT_ACTIVE) {
             throw new IllegalStateException("Transaction is already active");
         }
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
         try {
-            this.connection = connectionProvider.getConnection();
+            this.startedAt = statistics.startTimer();
+            this.connection = acquireConnection();
+            statistics.recordConnectionAcquire(startedAt);
             this.connection.setAutoCommit(false);
+            if (readOnly) {
+                this.connection.setReadOnly(true);
+            }
             this.status = TransactionStatus.ACTIVE;
             log.debug("transaction begin");
         } catch (SQLException e) {
             log.error("Failed to get connection", e);
+            releaseConnection(e);
             throw new JdbcException("Failed to get connection", e);
+        } finally {
+            commitEvent(event, TransactionEvent.BEGIN, status == TransactionStatus.ACTIVE);
+        }
+    }
+
+    private Connection acquireConnection() throws SQLException {
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.begin();
+        try {
+            return connectionProvider.getConnection();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.provider = connectionProvider.getClass();
+                event.commit();
+            }
+        }
+    }
+
+    // JFR 이 꺼져 있으면 shouldCommit 이 false 라 바로 반환한다
+    private void commitEvent(TransactionEvent event, String operation, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.readOnly = readOnly;
+            event.success = success;
+            event.commit();
         }
     }
 
@@ -51,27 +104,52 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
         if (this.status != TransactionStatus.ACTIVE) {
             throw new IllegalStateException("Transaction is not active");
         }
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
         try {
-            if (flushCallback != null) {
+            if (flushCallback != null && !readOnly) {
                 flushCallback.run();
                 log.debug("persistence context flush");
             }
 
             connection.commit();
             this.status = TransactionStatus.COMMITTED;
+            statistics.recordTransaction(startedAt, true);
             log.debug("transaction commit");
+            if (afterCommitCallback != null) {
+                afterCommitCallback.run();
+            }
         } catch (SQLException e) {
             log.error("Failed to commit transaction", e);
-            try {
-                connection.rollback();
-                this.status = TransactionStatus.ROLLED_BACK;
-                log.warn("transaction rollback");
-            } catch (SQLException ex) {
-                log.error("Failed to rollback transaction", ex);
-            }
+            rollbackAfterFailedCommit(e);
             throw new JdbcException("Failed to commit transaction", e);
+        } catch (RuntimeException e) {
+            // flush 실패는 JdbcException 으로 넘어온다, 앞선 batch 가 반영되지 않도록 rollback 한다
+            log.error("Failed to flush before commit", e);
+            rollbackAfterFailedCommit(e);
+            throw e;
         } finally {
             closeConnection();
+            commitEvent(event, TransactionEvent.COMMIT, status == TransactionStatus.COMMITTED);
+        }
+    }
+
+    // afterCommitCallback 실패처럼 이미 commit 된 경우는 되돌리지 않는다
+    private void rollbackAfterFailedCommit(Exception cause) {
+        if (status != TransactionStatus.ACTIVE) {
+            return;
+        }
+        try {
+            connection.rollback();
+            this.status = TransactionStatus.ROLLED_BACK;
+            statistics.recordTransaction(startedAt, false);
+            log.warn("transaction rollback");
+        } catch (SQLException ex) {
+            log.error("Failed to rollback transaction", ex);
+            cause.addSuppressed(ex);
+        }
+        if (clearCallback != null) {
+            clearCallback.run(); // 반영되지 않은 캐시 무효화 대기 목록도 버린다
         }
     }
 
@@ -81,10 +159,13 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
             log.warn("Attempting to rollback non-active transaction. Status: {}", status);
             return;
         }
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
         try {
             connection.rollback();
             connection.setAutoCommit(true);
             this.status = TransactionStatus.ROLLED_BACK;
+            statistics.recordTransaction(startedAt, false);
 
             if (clearCallback != null) {
                 clearCallback.run();
@@ -97,6 +178,7 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
             throw new JdbcException("Failed to rollback transaction", e);
         } finally {
             closeConnection();
+            commitEvent(event, TransactionEvent.ROLLBACK, status == TransactionStatus.ROLLED_BACK);
         }
     }
 
@@ -105,18 +187,77 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
         return this.status == TransactionStatus.ACTIVE;
     }
 
+    public void registerResource(AutoCloseable resource) {
+        openResources.add(resource);
+    }
+
+    public void releaseResource(AutoCloseable resource) {
+        openResources.remove(resource);
+    }
+
+    private void closeOpenResources() {
+        for (AutoCloseable resource : List.copyOf(openResources)) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Failed to close transaction resource", e);
+            }
+        }
+        openResources.clear();
+    }
+
     private void closeConnection() {
+        closeOpenResources();
         try {
             if (!connection.isClosed()) {
+                // commit 되지 않은 작업이 setAutoCommit(true) 로 commit 되지 않도록 먼저 rollback 한다
+                if (status != TransactionStatus.COMMITTED && !connection.getAutoCommit()) {
+                    connection.rollback();
+                }
                 connection.setAutoCommit(true);
+                if (readOnly) {
+                    connection.setReadOnly(false); // pool 로 돌아가는 connection 원복
+                }
             }
-            connectionProvider.closeConnection(connection);
-            connection = null;
             // 트랜잭션 닫힐 때의 상태 정보 유지
             log.debug("transaction close");
         } catch (SQLException e) {
-            log.error("Failed to close connection", e);
+            log.error("Failed to reset connection", e);
+        } finally {
+            // 원복에 실패해도 반납한다, pool 은 원복할 수 없는 connection 을 버린다
+            releaseConnection(null);
+        }
+    }
+
+    // cause 가 있으면 반납 중 오류를 cause 에 붙인다
+    private void releaseConnection(Exception cause) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connectionProvider.closeConnection(connection);
+        } catch (SQLException | RuntimeException e) {
+            if (cause != null) {
+                cause.addSuppressed(e);
+            } else {
+                log.error("Failed to close connection", e);
+            }
+        } finally {
+            connection = null;
+        }
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) {
+        if (isActive()) {
+            throw new IllegalStateException("Cannot change read-only mode of an active transaction");
         }
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return this.readOnly;
     }
 
     @Override
@@ -133,4 +274,9 @@ public class JdbcTransaction implements TransactionCoordinator, EntityTransactio
     public void setClearCallback(Runnable callback) {
         this.clearCallback = callback;
     }
+
+    @Override
+    public void setAfterCommitCallback(Runnable callback) {
+        this.afterCommitCallback = callback;
+    }
 }
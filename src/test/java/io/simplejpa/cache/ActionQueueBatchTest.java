@@ -0,0 +1,200 @@
+package io.simplejpa.cache;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import io.simplejpa.core.Persistence;
+import io.simplejpa.core.PersistenceConfiguration;
+import io.simplejpa.engine.jdbc.ExecutionInfo;
+import io.simplejpa.engine.jdbc.ExecutionListener;
+import io.simplejpa.exception.JdbcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ActionQueueBatchTest {
+    private static final String URL = "jdbc:h2:mem:batch-test;DB_CLOSE_DELAY=-1";
+
+    private final List<ExecutionInfo> executions = new CopyOnWriteArrayList<>();
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        executeSql("DROP TABLE IF EXISTS batch_orders");
+        executeSql("DROP TABLE IF EXISTS batch_members");
+        executeSql("CREATE TABLE batch_orders (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        executeSql("CREATE TABLE batch_members (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) UNIQUE)");
+        entityManagerFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(Order.class)
+                .entityClass(Member.class)
+                .jdbcBatchSize(2)
+                .executionListener(new ExecutionListener() {
+                    @Override
+                    public void afterExecute(ExecutionInfo executionInfo) {
+                        executions.add(executionInfo);
+                    }
+                })
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    @DisplayName("IDENTITY INSERT 를 batchSize 단위로 나눠 실행하고 generated key 를 persist 순서대로 채운다.")
+    void identityBatchWritesKeysInOrder() throws SQLException {
+        // given
+        List<Order> orders = List.of(new Order("first"), new Order("second"), new Order("third"));
+
+        // when
+        persistAll(orders);
+
+        // then
+        assertThat(insertBatchSizes("batch_orders")).containsExactly(2, 1);
+        for (Order order : orders) {
+            assertThat(order.id).isNotNull();
+            assertThat(findName("batch_orders", order.id)).isEqualTo(order.name);
+        }
+        assertThat(orders.get(0).id).isLessThan(orders.get(1).id);
+        assertThat(orders.get(1).id).isLessThan(orders.get(2).id);
+    }
+
+    @Test
+    @DisplayName("여러 엔티티 타입을 섞어 persist 하면 타입별로 묶어서 batch 로 실행한다.")
+    void groupMixedEntityTypes() throws SQLException {
+        // given
+        List<Object> entities = List.of(new Order("o1"), new Member("m1"), new Order("o2"), new Member("m2"));
+
+        // when
+        persistAll(entities);
+
+        // then
+        List<String> insertTables = executions.stream()
+                .map(ExecutionInfo::sql)
+                .filter(sql -> sql.startsWith("INSERT INTO"))
+                .map(sql -> sql.split(" ")[2])
+                .toList();
+        assertThat(insertTables).containsExactly("batch_orders", "batch_members");
+        assertThat(insertBatchSizes("batch_orders")).containsExactly(2);
+        assertThat(insertBatchSizes("batch_members")).containsExactly(2);
+        assertThat(countRows("batch_orders")).isEqualTo(2L);
+        assertThat(countRows("batch_members")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("뒤쪽 batch 가 실패하면 앞서 실행한 batch 까지 rollback 되어 아무것도 반영되지 않는다.")
+    void rollbackEarlierBatchesWhenLaterBatchFails() throws SQLException {
+        // given
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.persist(new Member("a"));
+        entityManager.persist(new Member("b"));
+        entityManager.persist(new Member("c"));
+        entityManager.persist(new Member("c"));
+
+        // when // then
+        assertThatThrownBy(() -> entityManager.getTransaction().commit())
+                .isInstanceOf(JdbcException.class);
+        assertThat(entityManager.getTransaction().isActive()).isFalse();
+        assertThat(insertBatchSizes("batch_members")).containsExactly(2, 2);
+        assertThat(countRows("batch_members")).isZero();
+        entityManager.close();
+    }
+
+    private void persistAll(List<?> entities) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entities.forEach(entityManager::persist);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    private List<Integer> insertBatchSizes(String tableName) {
+        return executions.stream()
+                .filter(execution -> execution.sql().startsWith("INSERT INTO " + tableName + " "))
+                .map(ExecutionInfo::batchSize)
+                .toList();
+    }
+
+    private String findName(String tableName, Long id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             PreparedStatement statement = connection.prepareStatement("SELECT name FROM " + tableName + " WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private long countRows(String tableName) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void executeSql(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Entity
+    @Table(name = "batch_orders")
+    static class Order {
+        @Id
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        public Order() {
+        }
+
+        Order(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity
+    @Table(name = "batch_members")
+    static class Member {
+        @Id
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        public Member() {
+        }
+
+        Member(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.simplejpa.cache;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.MetadataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityEntryTest {
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(Account.class);
+        metadata = metadataRegistry.getMetadata(Account.class);
+    }
+
+    @Test
+    @DisplayName("변경된 속성만 dirty bit 로 표시하고 반영 후에는 변경된 slot 만 snapshot 을 갱신한다.")
+    void detectDirtyAttributes() {
+        // given
+        Account account = new Account(1L, "kim", 100L);
+        EntityEntry entityEntry = new EntityEntry(account, new Object[]{"kim", 100L});
+
+        // when
+        account.balance = 200L;
+        boolean modified = entityEntry.isModified(metadata);
+
+        // then
+        assertThat(modified).isTrue();
+        assertThat(entityEntry.getDirtyAttributes().get(1)).isTrue();
+        assertThat(entityEntry.getDirtyAttributes().cardinality()).isEqualTo(1);
+
+        entityEntry.updateSnapShot(metadata);
+        assertThat(entityEntry.getStateSnapShot()).containsExactly("kim", 200L);
+        assertThat(entityEntry.isModified(metadata)).isFalse();
+    }
+
+    @Entity
+    static class Account {
+        @Id
+        private Long id;
+
+        @Column(name = "owner")
+        private String owner;
+
+        @Column(name = "balance")
+        private long balance;
+
+        public Account() {
+        }
+
+        Account(Long id, String owner, long balance) {
+            this.id = id;
+            this.owner = owner;
+            this.balance = balance;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.simplejpa.cache.secondlevel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryResultCacheTest {
+    private static final String SQL = "SELECT * FROM countries WHERE region = ?";
+
+    private final QueryResultCache queryResultCache = new QueryResultCache(16);
+
+    @Test
+    @DisplayName("같은 SQL 과 같은 바인딩 값이면 저장한 id 목록을 반환한다.")
+    void hitWithSameParameters() {
+        // given
+        queryResultCache.put(SQL, new Object[]{"EU"}, "countries", List.of(1L, 2L), System.nanoTime());
+
+        // when
+        List<Object> ids = queryResultCache.get(SQL, new Object[]{"EU"}, "countries");
+        List<Object> otherRegion = queryResultCache.get(SQL, new Object[]{"ASIA"}, "countries");
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L);
+        assertThat(otherRegion).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 이후 테이블이 변경되면 저장한 결과를 사용하지 않는다.")
+    void invalidateByTableTimestamp() {
+        // given
+        queryResultCache.put(SQL, new Object[]{"EU"}, "countries", List.of(1L), System.nanoTime());
+
+        // when
+        queryResultCache.invalidate(Set.of("countries"));
+
+        // then
+        assertThat(queryResultCache.get(SQL, new Object[]{"EU"}, "countries")).isNull();
+        assertThat(queryResultCache.size()).isZero();
+    }
+}
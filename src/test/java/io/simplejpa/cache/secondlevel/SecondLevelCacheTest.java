@@ -0,0 +1,99 @@
+package io.simplejpa.cache.secondlevel;
+
+import io.simplejpa.annotation.Cacheable;
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.cache.EntityKey;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.MetadataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheTest {
+    private EntityMetadata metadata;
+    private SecondLevelCache secondLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(Team.class);
+        metadata = metadataRegistry.getMetadata(Team.class);
+        secondLevelCache = new SecondLevelCache(SecondLevelCacheConfiguration.builder().maxSize(2).build());
+    }
+
+    @Test
+    @DisplayName("캐시된 상태로 매번 새 인스턴스를 조립한다.")
+    void assembleNewInstance() {
+        // given
+        Team team = new Team(1L, "backend");
+        secondLevelCache.putFromLoad(metadata, team, System.nanoTime());
+
+        // when
+        Team first = (Team) secondLevelCache.get(metadata, 1L);
+        Team second = (Team) secondLevelCache.get(metadata, 1L);
+
+        // then
+        assertThat(first).isNotSameAs(team).isNotSameAs(second);
+        assertThat(first.id).isEqualTo(1L);
+        assertThat(first.name).isEqualTo("backend");
+        assertThat(secondLevelCache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 타입의 결과는 캐시하지 않는다.")
+    void skipStaleLoad() {
+        // given
+        long loadStartedAt = System.nanoTime();
+        secondLevelCache.evict(new EntityKey(Team.class, 1L));
+
+        // when
+        secondLevelCache.putFromLoad(metadata, new Team(1L, "backend"), loadStartedAt);
+
+        // then
+        assertThat(secondLevelCache.get(metadata, 1L)).isNull();
+        assertThat(secondLevelCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 최근에 읽지 않은 항목부터 제거한다.")
+    void sieveEviction() {
+        // given
+        SieveCache<String, String> sieveCache = new SieveCache<>(2);
+        sieveCache.put("a", "A");
+        sieveCache.put("b", "B");
+        sieveCache.get("a");
+
+        // when
+        sieveCache.put("c", "C");
+
+        // then
+        assertThat(sieveCache.size()).isEqualTo(2);
+        assertThat(sieveCache.get("a")).isEqualTo("A");
+        assertThat(sieveCache.get("b")).isNull();
+        assertThat(sieveCache.get("c")).isEqualTo("C");
+    }
+
+    @Entity
+    @Cacheable
+    @Table(name = "teams")
+    static class Team {
+        @Id
+        private Long id;
+
+        @Column(name = "name")
+        private String name;
+
+        public Team() {
+        }
+
+        Team(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package io.simplejpa.core;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.engine.connection.ConnectionPoolConfiguration;
+import io.simplejpa.engine.jdbc.ExecutionInfo;
+import io.simplejpa.engine.jdbc.ExecutionListener;
+import io.simplejpa.query.QueryHints;
+import io.simplejpa.query.TypedQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityManagerFactoryImplTest {
+    private static final String URL = "jdbc:h2:mem:emf-test;DB_CLOSE_DELAY=-1";
+    private static final int UNITS_OF_WORK = 400;
+    private static final int ENTITIES_PER_UNIT = 20;
+
+    private EntityManagerFactory entityManagerFactory;
+    private final AtomicLong idSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        executeSql("DROP TABLE IF EXISTS products");
+        executeSql("CREATE TABLE products (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), price INT)");
+
+        entityManagerFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(Product.class)
+                .connectionPool(ConnectionPoolConfiguration.builder()
+                        .minSize(1)
+                        .maxSize(Runtime.getRuntime().availableProcessors())
+                        .build())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    @DisplayName("EntityManager 마다 독립된 영속성 컨텍스트를 가진다.")
+    void isolatedPersistenceContext() {
+        // given
+        EntityManager first = entityManagerFactory.createEntityManager();
+        EntityManager second = entityManagerFactory.createEntityManager();
+        Product product = new Product(idSequence.incrementAndGet(), "keyboard", 1000);
+
+        // when
+        first.getTransaction().begin();
+        first.persist(product);
+
+        // then
+        assertThat(first.contains(product)).isTrue();
+        assertThat(second.contains(product)).isFalse();
+        first.getTransaction().rollback();
+    }
+
+    @Test
+    @DisplayName("close 한 EntityManager 는 factory 의 관리 목록에서 제거된다.")
+    void deregisterClosedEntityManager() {
+        // given
+        EntityManagerFactoryImpl factory = (EntityManagerFactoryImpl) entityManagerFactory;
+        List<EntityManager> entityManagers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entityManagers.add(factory.createEntityManager());
+        }
+
+        // when
+        entityManagers.forEach(EntityManager::close);
+
+        // then
+        assertThat(factory.getActiveEntityManagerCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 진행 중인 EntityManager 는 close 에 실패하고 factory 의 관리 목록에 남는다.")
+    void keepEntityManagerWithActiveTransaction() {
+        // given
+        EntityManagerFactoryImpl factory = (EntityManagerFactoryImpl) entityManagerFactory;
+        EntityManager entityManager = factory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        // when // then
+        assertThatThrownBy(entityManager::close).isInstanceOf(IllegalStateException.class);
+        assertThat(entityManager.isOpen()).isTrue();
+        assertThat(factory.getActiveEntityManagerCount()).isEqualTo(1);
+
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+        assertThat(factory.getActiveEntityManagerCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("factory 를 닫으면 끝나지 않은 트랜잭션을 rollback 하고 EntityManager 를 닫는다.")
+    void closeFactoryRollsBackActiveTransaction() throws SQLException {
+        // given
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+        entityManager.persist(new Product(null, "keyboard", 1000));
+        entityManager.flush();
+
+        // when
+        entityManagerFactory.close();
+
+        // then
+        assertThat(transaction.isActive()).isFalse();
+        assertThat(entityManager.isOpen()).isFalse();
+        assertThat(countProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서는 조회한 엔티티를 변경해도 UPDATE 하지 않는다.")
+    void readOnlyTransaction() throws SQLException {
+        // given
+        executeSql("INSERT INTO products (id, name, price) VALUES (1000, 'mouse', 500)");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.setReadOnly(true);
+        transaction.begin();
+
+        // when
+        Product product = entityManager.find(Product.class, 1000L);
+        product.price = 9999;
+        transaction.commit();
+
+        // then
+        assertThat(product.name).isEqualTo("mouse");
+        assertThat(queryPrice(1000L)).isEqualTo(500);
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("detached stream 은 엔티티를 영속성 컨텍스트에 등록하지 않고 한 건씩 읽는다.")
+    void detachedResultStream() throws SQLException {
+        // given
+        executeSql("INSERT INTO products (id, name, price) VALUES (2000, 'a', 1), (2001, 'b', 2), (2002, 'c', 3)");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        // when
+        List<Product> products;
+        try (Stream<Product> stream = entityManager.createQuery("SELECT p FROM Product p", Product.class)
+                .setHint(QueryHints.FETCH_SIZE, 2)
+                .setHint(QueryHints.DETACHED, true)
+                .getResultStream()) {
+            products = stream.toList();
+        }
+
+        // then
+        assertThat(products).extracting(product -> product.name).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(entityManager.contains(products.get(0))).isFalse();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("여러 id 를 한 번에 조회하면 입력 순서대로 반환하고 없는 id 는 null 로 채운다.")
+    void findAll() throws SQLException {
+        // given
+        executeSql("INSERT INTO products (id, name, price) VALUES (3000, 'a', 1), (3001, 'b', 2), (3002, 'c', 3)");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        Product cached = entityManager.find(Product.class, 3001L);
+
+        // when
+        List<Product> products = entityManager.findAll(Product.class, List.of(3002L, 9999L, 3001L, 3000L));
+
+        // then
+        assertThat(products).hasSize(4);
+        assertThat(products.get(0).name).isEqualTo("c");
+        assertThat(products.get(1)).isNull();
+        assertThat(products.get(2)).isSameAs(cached);
+        assertThat(products.get(3).name).isEqualTo("a");
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("비동기 조회는 트랜잭션 없이 호출해도 별도 트랜잭션에서 실행되고 detached 엔티티를 반환한다.")
+    void asyncQueries() throws Exception {
+        // given
+        executeSql("INSERT INTO products (id, name, price) VALUES (4000, 'a', 1), (4001, 'b', 2)");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+        // when
+        CompletableFuture<Product> found = entityManager.findAsync(Product.class, 4000L);
+        TypedQuery<Product> query = entityManager.createQuery("SELECT p FROM Product p WHERE p.price = :price", Product.class)
+                .setParameter("price", 2);
+        CompletableFuture<List<Product>> queried = query.getResultListAsync();
+        query.setParameter("price", 1); // 호출 뒤 변경은 반영되지 않는다
+
+        // then
+        assertThat(found.get().name).isEqualTo("a");
+        assertThat(queried.get()).extracting(product -> product.name).containsExactly("b");
+        assertThat(entityManager.contains(found.get())).isFalse();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("factory 를 닫으면 진행 중인 비동기 조회가 끝난 뒤 connection pool 을 닫는다.")
+    void closeWaitsForAsyncQueries() throws Exception {
+        // given
+        executeSql("INSERT INTO products (id, name, price) VALUES (5000, 'a', 1)");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        CompletableFuture<Product> found = entityManager.findAsync(Product.class, 5000L);
+        entityManager.close();
+
+        // when
+        entityManagerFactory.close();
+
+        // then
+        assertThat(found.isDone()).isTrue();
+        assertThat(found.get().name).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("등록한 ExecutionListener 는 실행한 statement 의 정보를 전달받는다.")
+    void executionListener() {
+        // given
+        List<ExecutionInfo> executions = new CopyOnWriteArrayList<>();
+        EntityManagerFactory listenedFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(Product.class)
+                .executionListener(new ExecutionListener() {
+                    @Override
+                    public void afterExecute(ExecutionInfo executionInfo) {
+                        executions.add(executionInfo);
+                    }
+                })
+                .build());
+        EntityManager entityManager = listenedFactory.createEntityManager();
+
+        // when
+        entityManager.getTransaction().begin();
+        entityManager.persist(new Product(null, "mouse", 500));
+        entityManager.getTransaction().commit();
+        entityManager.close();
+        listenedFactory.close();
+
+        // then
+        assertThat(executions).hasSize(1);
+        ExecutionInfo insert = executions.get(0);
+        assertThat(insert.sql()).startsWith("INSERT INTO products");
+        assertThat(insert.parameterCount()).isEqualTo(2); // IDENTITY 라 id 컬럼은 INSERT 에서 빠진다
+        assertThat(insert.rowsAffected()).isEqualTo(1L);
+        assertThat(insert.isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 작업해도 모든 엔티티가 저장된다.")
+    void concurrentUnitsOfWork() throws Exception {
+        // given
+        int threadCount = Runtime.getRuntime().availableProcessors();
+
+        // when
+        runUnitsOfWork(threadCount, UNITS_OF_WORK);
+
+        // then
+        assertThat(countProducts()).isEqualTo((long) UNITS_OF_WORK * ENTITIES_PER_UNIT);
+    }
+
+    private void runUnitsOfWork(int threadCount, int unitsOfWork) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < unitsOfWork; i++) {
+                futures.add(executor.submit(this::persistProducts));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void persistProducts() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+        for (int i = 0; i < ENTITIES_PER_UNIT; i++) {
+            entityManager.persist(new Product(idSequence.incrementAndGet(), "product-" + i, i));
+        }
+        transaction.commit();
+        entityManager.close();
+    }
+
+    private long countProducts() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM products")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private int queryPrice(long id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT price FROM products WHERE id = " + id)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void executeSql(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Entity
+    @Table(name = "products")
+    static class Product {
+        @Id
+        private Long id;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "price")
+        private Integer price;
+
+        public Product() {
+        }
+
+        Product(Long id, String name, Integer price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+    }
+}
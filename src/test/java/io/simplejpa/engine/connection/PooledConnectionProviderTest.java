@@ -0,0 +1,111 @@
+package io.simplejpa.engine.connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledConnectionProviderTest {
+    private PooledConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        connectionProvider = new PooledConnectionProvider(
+                new DriverManagerConnectionProvider(new ConnectionConfiguration(
+                        "jdbc:h2:mem:pool-test;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "",
+                        "org.h2.Driver"
+                )),
+                ConnectionPoolConfiguration.builder()
+                        .minSize(1)
+                        .maxSize(2)
+                        .acquireTimeout(Duration.ofMillis(100))
+                        .build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.shutDown();
+    }
+
+    @Test
+    @DisplayName("반납된 connection 은 다음 요청에서 재사용된다.")
+    void reuseReleasedConnection() throws SQLException {
+        // given
+        Connection first = connectionProvider.getConnection();
+        connectionProvider.closeConnection(first);
+
+        // when
+        Connection second = connectionProvider.getConnection();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(connectionProvider.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기만큼 대여 중이면 대기 시간 초과 후 예외를 던진다.")
+    void acquireTimeout() throws SQLException {
+        // given
+        connectionProvider.getConnection();
+        connectionProvider.getConnection();
+
+        // when // then
+        assertThatThrownBy(() -> connectionProvider.getConnection())
+                .isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    @DisplayName("반납 시 커밋되지 않은 작업은 롤백되고 autoCommit 이 복구된다.")
+    void resetOnRelease() throws SQLException {
+        // given
+        Connection connection = connectionProvider.getConnection();
+        connection.setAutoCommit(false);
+
+        // when
+        connectionProvider.closeConnection(connection);
+
+        // then
+        assertThat(connection.getAutoCommit()).isTrue();
+        assertThat(connectionProvider.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shutDown 이후에는 connection 을 얻을 수 없다.")
+    void shutDown() {
+        // when
+        connectionProvider.shutDown();
+
+        // then
+        assertThat(connectionProvider.getIdleCount()).isZero();
+        assertThatThrownBy(() -> connectionProvider.getConnection())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이미 닫힌 connection 을 반납해도 close callback 이 호출된다.")
+    void closeCallbackForClosedConnection() throws SQLException {
+        // given
+        List<Connection> released = new ArrayList<>();
+        connectionProvider.setCloseCallback(released::add);
+        Connection connection = connectionProvider.getConnection();
+        connection.close();
+
+        // when
+        connectionProvider.closeConnection(connection);
+
+        // then
+        assertThat(released).containsExactly(connection);
+    }
+}
@@ -0,0 +1,260 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.GeneratedValue;
+import io.simplejpa.annotation.GenerationType;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import io.simplejpa.core.Persistence;
+import io.simplejpa.core.PersistenceConfiguration;
+import io.simplejpa.engine.connection.ConnectionPoolConfiguration;
+import io.simplejpa.engine.jdbc.ExecutionInfo;
+import io.simplejpa.engine.jdbc.ExecutionListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentifierGenerationTest {
+    private static final String URL = "jdbc:h2:mem:id-generation-test;DB_CLOSE_DELAY=-1";
+
+    private final List<ExecutionInfo> executions = new CopyOnWriteArrayList<>();
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        executeSql("DROP TABLE IF EXISTS sequence_items");
+        executeSql("DROP TABLE IF EXISTS table_items");
+        executeSql("DROP TABLE IF EXISTS assigned_items");
+        executeSql("DROP TABLE IF EXISTS primitive_items");
+        executeSql("DROP TABLE IF EXISTS simplejpa_sequences");
+        executeSql("DROP SEQUENCE IF EXISTS sequence_items_seq");
+        executeSql("CREATE TABLE sequence_items (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+        executeSql("CREATE TABLE table_items (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+        executeSql("CREATE TABLE assigned_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        executeSql("CREATE TABLE primitive_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        executeSql("CREATE TABLE simplejpa_sequences (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+        executeSql("CREATE SEQUENCE sequence_items_seq START WITH 1 INCREMENT BY 50");
+
+        // TABLE 전략의 블록 예약이 pool 을 기다리지 않는지 보기 위해 connection 을 하나만 둔다
+        entityManagerFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(SequenceItem.class)
+                .entityClass(TableItem.class)
+                .entityClass(AssignedItem.class)
+                .entityClass(PrimitiveItem.class)
+                .connectionPool(ConnectionPoolConfiguration.builder()
+                        .minSize(1)
+                        .maxSize(1)
+                        .acquireTimeout(Duration.ofMillis(500))
+                        .build())
+                .jdbcBatchSize(10)
+                .executionListener(new ExecutionListener() {
+                    @Override
+                    public void afterExecute(ExecutionInfo executionInfo) {
+                        executions.add(executionInfo);
+                    }
+                })
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    @DisplayName("SEQUENCE 전략은 persist 시점에 id 를 채우고 INSERT 를 batch 로 실행한다.")
+    void sequenceIdsAreBatched() throws SQLException {
+        // given
+        List<SequenceItem> items = List.of(new SequenceItem("a"), new SequenceItem("b"), new SequenceItem("c"));
+
+        // when
+        persistAll(items);
+
+        // then
+        assertThat(items).extracting(item -> item.id).doesNotContainNull().doesNotHaveDuplicates();
+        ExecutionInfo insert = findInsert("sequence_items");
+        assertThat(insert.sql()).startsWith("INSERT INTO sequence_items ( id, name )");
+        assertThat(insert.batchSize()).isEqualTo(3);
+        assertThat(countRows("sequence_items")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("TABLE 전략은 pool 이 가득 차도 별도 connection 으로 id 를 예약하고 INSERT 를 batch 로 실행한다.")
+    void tableIdsAreBatched() throws SQLException {
+        // given
+        List<TableItem> items = List.of(new TableItem("a"), new TableItem("b"), new TableItem("c"));
+
+        // when
+        persistAll(items);
+
+        // then
+        assertThat(items).extracting(item -> item.id).doesNotContainNull().doesNotHaveDuplicates();
+        ExecutionInfo insert = findInsert("table_items");
+        assertThat(insert.sql()).startsWith("INSERT INTO table_items ( id, name )");
+        assertThat(insert.batchSize()).isEqualTo(3);
+        assertThat(countRows("table_items")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("@GeneratedValue 가 없는 엔티티에 id 를 직접 넣으면 그 id 로 INSERT 한다.")
+    void assignedIdIsKept() throws SQLException {
+        // given
+        AssignedItem item = new AssignedItem(100L, "a");
+
+        // when
+        persistAll(List.of(item));
+
+        // then
+        assertThat(item.id).isEqualTo(100L);
+        ExecutionInfo insert = findInsert("assigned_items");
+        assertThat(insert.sql()).startsWith("INSERT INTO assigned_items ( id, name )");
+        assertThat(insert.parameterCount()).isEqualTo(2);
+        assertThat(countRows("assigned_items WHERE id = 100")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("primitive id 의 0 은 미할당으로 보고 INSERT 후 받은 id 로 1차 캐시에 등록한다.")
+    void primitiveIdIsRegisteredAfterInsert() {
+        // given
+        PrimitiveItem first = new PrimitiveItem("a");
+        PrimitiveItem second = new PrimitiveItem("b");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        // when
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+
+        // then
+        assertThat(first.id).isNotZero();
+        assertThat(second.id).isNotZero().isNotEqualTo(first.id);
+        assertThat(entityManager.find(PrimitiveItem.class, first.id)).isSameAs(first);
+        assertThat(entityManager.find(PrimitiveItem.class, second.id)).isSameAs(second);
+        assertThat(entityManager.find(PrimitiveItem.class, 0L)).isNull();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    private void persistAll(List<?> entities) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entities.forEach(entityManager::persist);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    private ExecutionInfo findInsert(String tableName) {
+        return executions.stream()
+                .filter(execution -> execution.sql().startsWith("INSERT INTO " + tableName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long countRows(String tableName) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void executeSql(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Entity
+    @Table(name = "sequence_items")
+    static class SequenceItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        public SequenceItem() {
+        }
+
+        SequenceItem(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity
+    @Table(name = "table_items")
+    static class TableItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE)
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        public TableItem() {
+        }
+
+        TableItem(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity
+    @Table(name = "assigned_items")
+    static class AssignedItem {
+        @Id
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        public AssignedItem() {
+        }
+
+        AssignedItem(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity
+    @Table(name = "primitive_items")
+    static class PrimitiveItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        long id;
+
+        @Column(name = "name")
+        String name;
+
+        public PrimitiveItem() {
+        }
+
+        PrimitiveItem(String name) {
+            this.name = name;
+        }
+    }
+}
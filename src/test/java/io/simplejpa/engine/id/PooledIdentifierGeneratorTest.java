@@ -0,0 +1,86 @@
+package io.simplejpa.engine.id;
+
+import io.simplejpa.annotation.IdOptimizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledIdentifierGeneratorTest {
+
+    @Test
+    @DisplayName("블록 하나를 다 쓸 때까지 DB 를 다시 조회하지 않는다.")
+    void allocateOncePerBlock() {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        AtomicInteger allocations = new AtomicInteger();
+        PooledIdentifierGenerator generator = new PooledIdentifierGenerator(connection -> {
+            allocations.incrementAndGet();
+            return sequence.getAndAdd(10);
+        }, 10, IdOptimizer.POOLED, Long.class);
+
+        // when
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(generator.generate(null));
+        }
+
+        // then
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(24)).isEqualTo(25L);
+        assertThat(allocations.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("hi-lo 는 sequence 값에 allocationSize 를 곱한 값부터 할당한다.")
+    void hiLo() {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        PooledIdentifierGenerator generator = new PooledIdentifierGenerator(
+                connection -> sequence.getAndIncrement(), 100, IdOptimizer.HILO, Integer.class);
+
+        // when
+        Object first = generator.generate(null);
+
+        // then
+        assertThat(first).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 id 가 겹치지 않는다.")
+    void uniqueAcrossThreads() throws Exception {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        PooledIdentifierGenerator generator = new PooledIdentifierGenerator(
+                connection -> sequence.getAndAdd(50), 50, IdOptimizer.POOLED, Long.class);
+        Set<Object> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    ids.add(generator.generate(null));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(8000);
+    }
+}
@@ -0,0 +1,114 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcExecutorBatchTest {
+    private static final String URL = "jdbc:h2:mem:executor-batch-test;DB_CLOSE_DELAY=-1";
+    private static final String INSERT_SQL = "INSERT INTO batch_items (name) VALUES (?)";
+
+    private final List<ExecutionInfo> executions = new ArrayList<>();
+    private Connection connection;
+    private JdbcExecutor jdbcExecutor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS batch_items");
+            statement.execute("CREATE TABLE batch_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        }
+        jdbcExecutor = new JdbcExecutor(
+                new ParameterBinder(),
+                new StatementCacheRegistry(0),
+                new Statistics(false),
+                List.of(new ExecutionListener() {
+                    @Override
+                    public void afterExecute(ExecutionInfo executionInfo) {
+                        executions.add(executionInfo);
+                    }
+                })
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("driver 가 batch 를 지원하면 한 번에 실행하고 generated key 를 순서대로 돌려준다.")
+    void insertBatchWithGeneratedKeys() {
+        // when
+        List<Object> generatedKeys = jdbcExecutor.executeInsertBatch(
+                connection,
+                INSERT_SQL,
+                List.of(new Object[]{"a"}, new Object[]{"b"}, new Object[]{"c"})
+        );
+
+        // then
+        assertThat(generatedKeys).containsExactly(1L, 2L, 3L);
+        assertThat(executions).extracting(ExecutionInfo::batchSize).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("driver metadata 가 batch 를 지원하지 않으면 한 건씩 실행해서 generated key 를 받는다.")
+    void fallbackToSingleInsertsWithoutBatchSupport() {
+        // given
+        Connection withoutBatchSupport = withoutBatchSupport(connection);
+
+        // when
+        List<Object> generatedKeys = jdbcExecutor.executeInsertBatch(
+                withoutBatchSupport,
+                INSERT_SQL,
+                List.of(new Object[]{"a"}, new Object[]{"b"})
+        );
+
+        // then
+        assertThat(generatedKeys).containsExactly(1L, 2L);
+        assertThat(executions).extracting(ExecutionInfo::batchSize).containsExactly(1, 1);
+    }
+
+    // getMetaData().supportsBatchUpdates() 만 false 로 바꾸고 나머지는 실제 connection 에 위임한다
+    private Connection withoutBatchSupport(Connection target) {
+        return proxy(Connection.class, (connectionProxy, method, args) -> {
+            if (method.getName().equals("getMetaData")) {
+                DatabaseMetaData metaData = target.getMetaData();
+                return proxy(DatabaseMetaData.class, (metaDataProxy, metaDataMethod, metaDataArgs) ->
+                        metaDataMethod.getName().equals("supportsBatchUpdates")
+                                ? false
+                                : invoke(metaDataMethod, metaData, metaDataArgs));
+            }
+            return invoke(method, target, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
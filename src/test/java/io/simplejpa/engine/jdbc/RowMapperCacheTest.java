@@ -0,0 +1,119 @@
+package io.simplejpa.engine.jdbc;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.MetadataRegistry;
+import io.simplejpa.util.TypeConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowMapperCacheTest {
+    private static final String SQL = "SELECT member_name, id, age FROM members";
+
+    private Connection connection;
+    private EntityMetadata metadata;
+    private RowMapperCache rowMapperCache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:row-mapper-test", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE members (id BIGINT PRIMARY KEY, member_name VARCHAR(255), age INT)");
+            statement.execute("INSERT INTO members VALUES (1, 'kim', 20), (2, 'lee', NULL)");
+        }
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(Member.class);
+        metadata = metadataRegistry.getMetadata(Member.class);
+        rowMapperCache = new RowMapperCache(new TypeConverter());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("컬럼 순서와 대소문자에 상관없이 index 로 엔티티를 만든다.")
+    void mapRowByColumnIndex() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(SQL + " ORDER BY id")) {
+            // given
+            EntityRowMapper<Member> rowMapper = rowMapperCache.getRowMapper(metadata, rs);
+
+            // when
+            rs.next();
+            Member first = rowMapper.mapRow(rs);
+            rs.next();
+            Member second = rowMapper.mapRow(rs);
+
+            // then
+            assertThat(first.id).isEqualTo(1L);
+            assertThat(first.name).isEqualTo("kim");
+            assertThat(first.age).isEqualTo(20);
+            assertThat(second.age).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 이 달라도 컬럼 모양이 같으면 한 번 만든 row mapper 를 재사용한다.")
+    void reuseRowMapperForSameColumns() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet first = statement.executeQuery(SQL);
+             Statement another = connection.createStatement();
+             ResultSet second = another.executeQuery(SQL + " WHERE age > 10")) {
+            // when
+            EntityRowMapper<Member> firstMapper = rowMapperCache.getRowMapper(metadata, first);
+            EntityRowMapper<Member> secondMapper = rowMapperCache.getRowMapper(metadata, second);
+
+            // then
+            assertThat(secondMapper).isSameAs(firstMapper);
+            assertThat(rowMapperCache.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("컬럼 순서가 다르면 별도의 row mapper 를 만든다.")
+    void separateRowMapperForDifferentColumns() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet first = statement.executeQuery(SQL);
+             Statement another = connection.createStatement();
+             ResultSet second = another.executeQuery("SELECT id, member_name, age FROM members")) {
+            // when
+            EntityRowMapper<Member> firstMapper = rowMapperCache.getRowMapper(metadata, first);
+            EntityRowMapper<Member> secondMapper = rowMapperCache.getRowMapper(metadata, second);
+
+            // then
+            assertThat(secondMapper).isNotSameAs(firstMapper);
+            assertThat(rowMapperCache.size()).isEqualTo(2);
+        }
+    }
+
+    @Entity
+    @Table(name = "members")
+    static class Member {
+        @Id
+        private Long id;
+
+        @Column(name = "member_name")
+        private String name;
+
+        @Column(name = "age")
+        private Integer age;
+
+        public Member() {
+        }
+    }
+}
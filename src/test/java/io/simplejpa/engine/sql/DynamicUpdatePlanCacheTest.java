@@ -0,0 +1,77 @@
+package io.simplejpa.engine.sql;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.DynamicUpdate;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.metadata.EntityMetadata;
+import io.simplejpa.metadata.MetadataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DynamicUpdatePlanCacheTest {
+    private MetadataRegistry metadataRegistry;
+    private DynamicUpdatePlanCache dynamicUpdatePlanCache;
+
+    @BeforeEach
+    void setUp() {
+        metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(Member.class);
+        dynamicUpdatePlanCache = new DynamicUpdatePlanCache(new UpdateSqlGenerator(new ParameterCollector()));
+    }
+
+    @Test
+    @DisplayName("변경된 컬럼만 SET 절에 포함하고 같은 조합은 같은 plan 을 재사용한다.")
+    void updateOnlyDirtyColumns() {
+        // given
+        EntityMetadata metadata = metadataRegistry.getMetadata(Member.class);
+        BitSet dirtyAttributes = new BitSet();
+        dirtyAttributes.set(2); // age
+
+        // when
+        UpdateSqlPlan first = dynamicUpdatePlanCache.getUpdatePlan(metadata, dirtyAttributes);
+        UpdateSqlPlan second = dynamicUpdatePlanCache.getUpdatePlan(metadata, (BitSet) dirtyAttributes.clone());
+
+        // then
+        assertThat(first.sql()).isEqualTo("UPDATE members  SET age = ? WHERE id= ?");
+        assertThat(second).isSameAs(first);
+        assertThat(metadata.isDynamicUpdate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("insertable, updatable 이 false 인 컬럼은 INSERT, UPDATE SQL 에서 제외한다.")
+    void respectInsertableAndUpdatable() {
+        // when
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(Member.class);
+
+        // then
+        assertThat(sqlPlan.insertSql()).isEqualTo("INSERT INTO members ( member_name, code ) VALUES( ?, ? )");
+        assertThat(sqlPlan.updateSql()).isEqualTo("UPDATE members  SET member_name = ?, age = ? WHERE id= ?");
+    }
+
+    @Entity
+    @DynamicUpdate
+    @Table(name = "members")
+    static class Member {
+        @Id
+        private Long id;
+
+        @Column(name = "member_name")
+        private String name;
+
+        @Column(updatable = false)
+        private String code;
+
+        @Column(insertable = false)
+        private Integer age;
+
+        public Member() {
+        }
+    }
+}
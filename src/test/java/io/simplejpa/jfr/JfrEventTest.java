@@ -0,0 +1,141 @@
+package io.simplejpa.jfr;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import io.simplejpa.core.Persistence;
+import io.simplejpa.core.PersistenceConfiguration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrEventTest {
+    private static final String URL = "jdbc:h2:mem:jfr-test;DB_CLOSE_DELAY=-1";
+    private static final List<String> EVENT_NAMES = List.of(
+            "io.simplejpa.StatementExecution",
+            "io.simplejpa.Flush",
+            "io.simplejpa.Hydration",
+            "io.simplejpa.Transaction"
+    );
+
+    private EntityManagerFactory entityManagerFactory;
+    private Path recordingFile;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS jfr_books");
+            statement.execute("CREATE TABLE jfr_books (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255))");
+        }
+        entityManagerFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(Book.class)
+                .build());
+        recordingFile = Files.createTempFile("simplejpa-events", ".jfr");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        entityManagerFactory.close();
+        Files.deleteIfExists(recordingFile);
+    }
+
+    @Test
+    @DisplayName("persist, flush, query, commit 구간마다 JFR 이벤트를 기록한다.")
+    void recordEvents() throws IOException {
+        // given
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+
+            // when
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            entityManager.getTransaction().begin();
+            entityManager.persist(new Book(null, "jfr"));
+            entityManager.flush();
+            List<Book> books = entityManager.createQuery("SELECT b FROM Book b", Book.class).getResultList();
+            entityManager.getTransaction().commit();
+            entityManager.close();
+
+            recording.stop();
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+            assertThat(books).hasSize(1);
+        }
+
+        // then
+        RecordedEvent insert = events.stream()
+                .filter(event -> isEvent(event, "io.simplejpa.StatementExecution"))
+                .filter(event -> event.getString("sql").startsWith("INSERT INTO jfr_books"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(insert.getInt("batchSize")).isEqualTo(1);
+        assertThat(insert.getLong("rowsAffected")).isEqualTo(1L);
+        assertThat(insert.getBoolean("success")).isTrue();
+
+        RecordedEvent flush = events.stream()
+                .filter(event -> isEvent(event, "io.simplejpa.Flush"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(flush.getInt("actionsExecuted")).isEqualTo(1);
+
+        RecordedEvent hydration = events.stream()
+                .filter(event -> isEvent(event, "io.simplejpa.Hydration"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(hydration.getClass("entityType").getName()).isEqualTo(Book.class.getName());
+        assertThat(hydration.getInt("rows")).isEqualTo(1);
+
+        List<String> transactionOperations = events.stream()
+                .filter(event -> isEvent(event, "io.simplejpa.Transaction"))
+                .filter(event -> event.getBoolean("success"))
+                .map(event -> event.getString("operation"))
+                .toList();
+        assertThat(transactionOperations).contains(TransactionEvent.BEGIN, TransactionEvent.COMMIT);
+    }
+
+    private boolean isEvent(RecordedEvent event, String name) {
+        return event.getEventType().getName().equals(name);
+    }
+
+    @Entity
+    @Table(name = "jfr_books")
+    static class Book {
+        @Id
+        Long id;
+
+        @Column(name = "title")
+        String title;
+
+        public Book() {
+        }
+
+        Book(Long id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+}
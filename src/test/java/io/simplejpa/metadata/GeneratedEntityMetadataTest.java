@@ -0,0 +1,83 @@
+package io.simplejpa.metadata;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.engine.sql.EntitySqlPlan;
+import io.simplejpa.mapping.AnnotationProcessor;
+import io.simplejpa.metadata.accessor.MethodHandlePropertyAccessor;
+import io.simplejpa.metadata.accessor.PropertyAccessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedEntityMetadataTest {
+
+    @Test
+    @DisplayName("생성 클래스 이름은 엔티티 이름 뒤에 _Metadata 를 붙인다.")
+    void classNameOf() {
+        // given
+        String binaryName = Book.class.getName();
+
+        // when
+        String className = GeneratedEntityMetadata.classNameOf(binaryName);
+
+        // then
+        assertThat(className).isEqualTo("io.simplejpa.metadata.GeneratedEntityMetadataTest_Book_Metadata");
+    }
+
+    @Test
+    @DisplayName("빌드 시점에 생성된 메타데이터가 있으면 reflection 대신 사용한다.")
+    void scanAndRegisterUsesGeneratedMetadata() {
+        // given
+        MetadataRegistry registry = new MetadataRegistry();
+
+        // when
+        registry.scanAndRegister(Book.class);
+
+        // then
+        EntityMetadata metadata = registry.getMetadata(Book.class);
+        PropertyAccessor titleAccessor = metadata.getAttributeMetadatas().get(0).getAccessor();
+        assertThat(titleAccessor).isNotInstanceOf(MethodHandlePropertyAccessor.class);
+
+        Object book = metadata.getInstantiator().newInstance();
+        titleAccessor.set(book, "JPA");
+        assertThat(((Book) book).title).isEqualTo("JPA");
+    }
+
+    @Test
+    @DisplayName("생성된 SQL 은 reflection 으로 만든 SQL 과 같다.")
+    void generatedSqlMatchesReflection() {
+        // given
+        MetadataRegistry generated = new MetadataRegistry();
+        MetadataRegistry reflective = new MetadataRegistry();
+
+        // when
+        generated.scanAndRegister(Book.class);
+        reflective.register(Book.class, new AnnotationProcessor().processEntity(Book.class));
+
+        // then
+        EntitySqlPlan expected = reflective.getSqlPlan(Book.class);
+        EntitySqlPlan actual = generated.getSqlPlan(Book.class);
+        assertThat(actual.insertSql()).isEqualTo(expected.insertSql());
+        assertThat(actual.assignedIdInsertSql()).isEqualTo(expected.assignedIdInsertSql());
+        assertThat(actual.updateSql()).isEqualTo(expected.updateSql());
+        assertThat(actual.deleteSql()).isEqualTo(expected.deleteSql());
+        assertThat(actual.findByIdSql()).isEqualTo(expected.findByIdSql());
+        assertThat(actual.updateAttributes()).hasSize(expected.updateAttributes().size());
+    }
+
+    @Entity
+    @Table(name = "books")
+    static class Book {
+        @Id
+        Long id;
+        String title;
+        @Column(name = "page_count")
+        int pageCount;
+        @Column(updatable = false)
+        private String isbn;
+    }
+}
@@ -3,6 +3,7 @@ package io.simplejpa.metadata;
 import io.simplejpa.annotation.Column;
 import io.simplejpa.annotation.Entity;
 import io.simplejpa.annotation.Id;
+import io.simplejpa.engine.sql.EntitySqlPlan;
 import io.simplejpa.mapping.AnnotationProcessor;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
@@ -105,6 +106,36 @@ class MetadataRegistryTest {
         assertThat(metadataRegistry.hasMetadata(User.class)).isTrue();
     }
 
+    @Test
+    @DisplayName("등록 시점에 엔티티의 CRUD SQL plan 을 만든다.")
+    void getSqlPlan() {
+        // given
+        metadataRegistry.scanAndRegister(User.class);
+
+        // when
+        EntitySqlPlan sqlPlan = metadataRegistry.getSqlPlan(User.class);
+
+        // then
+        assertThat(sqlPlan.insertSql()).isEqualTo("INSERT INTO User ( name, email ) VALUES( ?, ? )");
+        assertThat(sqlPlan.deleteSql()).isEqualTo("DELETE FROM User WHERE id= ?");
+        assertThat(sqlPlan.findByIdSql()).startsWith("SELECT id, name, email");
+        assertThat(sqlPlan.updateAttributes()).extracting(AttributeMetadata::getFieldName)
+                .containsExactly("name", "email");
+    }
+
+    @Test
+    @DisplayName("엔티티 이름으로 메타데이터를 찾을 수 있다.")
+    void getMetadataByEntityName() {
+        // given
+        metadataRegistry.scanAndRegister(User.class);
+
+        // when
+        EntityMetadata metadata = metadataRegistry.getMetadataByEntityName("User");
+
+        // then
+        assertThat(metadata.getEntityClass()).isEqualTo(User.class);
+    }
+
     @Entity
     static class User {
         @Id
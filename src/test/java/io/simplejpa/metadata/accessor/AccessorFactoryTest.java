@@ -0,0 +1,80 @@
+package io.simplejpa.metadata.accessor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessorFactoryTest {
+    private AccessorFactory accessorFactory;
+
+    @BeforeEach
+    void setUp() {
+        accessorFactory = new AccessorFactory();
+    }
+
+    @Test
+    @DisplayName("private 기본 생성자로도 reflection 없이 인스턴스를 만든다.")
+    void createInstantiator() {
+        // when
+        EntityInstantiator instantiator = accessorFactory.createInstantiator(Product.class);
+
+        // then
+        assertThat(instantiator).isInstanceOf(LambdaEntityInstantiator.class);
+        assertThat(instantiator.newInstance()).isInstanceOf(Product.class);
+    }
+
+    @Test
+    @DisplayName("primitive 필드는 boxing 없이 읽고 쓸 수 있다.")
+    void primitiveAccessor() throws NoSuchFieldException {
+        // given
+        Product product = new Product();
+        PropertyAccessor accessor = accessorFactory.createPropertyAccessor(Product.class.getDeclaredField("stock"));
+
+        // when
+        accessor.setLong(product, 10L);
+
+        // then
+        assertThat(accessor).isInstanceOf(MethodHandlePropertyAccessor.class);
+        assertThat(accessor.getLong(product)).isEqualTo(10L);
+        assertThat(accessor.get(product)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("primitive 필드에 null 을 넣으면 기본값을 유지한다.")
+    void setNullToPrimitive() throws NoSuchFieldException {
+        // given
+        Product product = new Product();
+        PropertyAccessor accessor = accessorFactory.createPropertyAccessor(Product.class.getDeclaredField("stock"));
+        accessor.setLong(product, 3L);
+
+        // when
+        accessor.set(product, null);
+
+        // then
+        assertThat(accessor.getLong(product)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("참조 타입 필드를 읽고 쓸 수 있다.")
+    void referenceAccessor() throws NoSuchFieldException {
+        // given
+        Product product = new Product();
+        PropertyAccessor accessor = accessorFactory.createPropertyAccessor(Product.class.getDeclaredField("name"));
+
+        // when
+        accessor.set(product, "keyboard");
+
+        // then
+        assertThat(accessor.get(product)).isEqualTo("keyboard");
+    }
+
+    static class Product {
+        private String name;
+        private long stock;
+
+        private Product() {
+        }
+    }
+}
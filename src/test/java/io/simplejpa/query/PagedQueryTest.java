@@ -0,0 +1,133 @@
+package io.simplejpa.query;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.core.EntityManager;
+import io.simplejpa.core.EntityManagerFactory;
+import io.simplejpa.core.Persistence;
+import io.simplejpa.core.PersistenceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PagedQueryTest {
+    private static final String URL = "jdbc:h2:mem:paged-query-test;DB_CLOSE_DELAY=-1";
+    private static final String JPQL = "SELECT p FROM Product p WHERE p.price > :price";
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS paged_products");
+            statement.execute("CREATE TABLE paged_products (id BIGINT PRIMARY KEY, name VARCHAR(255), price INT)");
+            statement.execute("INSERT INTO paged_products VALUES "
+                    + "(1, 'p1', 100), (2, 'p2', 200), (3, 'p3', 300), (4, 'p4', 400), (5, 'p5', 500)");
+        }
+        entityManagerFactory = Persistence.createEntityManagerFactory(PersistenceConfiguration.builder()
+                .url(URL)
+                .username("sa")
+                .password("")
+                .driver("org.h2.Driver")
+                .entityClass(Product.class)
+                .build());
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    @DisplayName("한 페이지와 조건에 맞는 전체 건수를 함께 반환한다.")
+    void pageWithTotalCount() {
+        // when
+        Page<Product> page = entityManager.createQuery(JPQL, Product.class)
+                .setParameter("price", 100)
+                .setFirstResult(1)
+                .setMaxResults(2)
+                .getResultPage();
+
+        // then
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.totalCount()).isEqualTo(4L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("setMaxResults 없이 setFirstResult 만 지정하면 나머지 row 를 모두 반환한다.")
+    void offsetOnlyPage() {
+        // when
+        Page<Product> page = entityManager.createQuery(JPQL, Product.class)
+                .setParameter("price", 100)
+                .setFirstResult(2)
+                .getResultPage();
+
+        // then
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.totalCount()).isEqualTo(4L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("maxResults 가 0 이면 row 없이 count 쿼리로 전체 건수를 구한다.")
+    void zeroMaxResultsCountsSeparately() {
+        // when
+        Page<Product> page = entityManager.createQuery(JPQL, Product.class)
+                .setParameter("price", 100)
+                .setMaxResults(0)
+                .getResultPage();
+
+        // then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("offset 이 범위를 벗어나 빈 페이지가 나와도 전체 건수를 구한다.")
+    void offsetBeyondRangeCountsSeparately() {
+        // when
+        Page<Product> page = entityManager.createQuery(JPQL, Product.class)
+                .setParameter("price", 100)
+                .setFirstResult(10)
+                .setMaxResults(2)
+                .getResultPage();
+
+        // then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalCount()).isEqualTo(4L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Entity
+    @Table(name = "paged_products")
+    static class Product {
+        @Id
+        Long id;
+
+        @Column(name = "name")
+        String name;
+
+        @Column(name = "price")
+        Integer price;
+
+        public Product() {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.simplejpa.query.jpql;
+
+import io.simplejpa.annotation.Column;
+import io.simplejpa.annotation.Entity;
+import io.simplejpa.annotation.Id;
+import io.simplejpa.annotation.Table;
+import io.simplejpa.metadata.MetadataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryPlanCacheTest {
+    private QueryPlanCache queryPlanCache;
+
+    @BeforeEach
+    void setUp() {
+        MetadataRegistry metadataRegistry = new MetadataRegistry();
+        metadataRegistry.scanAndRegister(Member.class);
+        queryPlanCache = new QueryPlanCache(2, new JpqlParser(), new QueryTranslator(metadataRegistry));
+    }
+
+    @Test
+    @DisplayName("같은 JPQL 은 다시 변환하지 않고 cache 된 plan 을 사용한다.")
+    void reuseTranslatedQuery() {
+        // given
+        String jpql = "SELECT m FROM Member m WHERE m.name = :name";
+        TranslatedQuery first = queryPlanCache.getTranslatedQuery(jpql);
+
+        // when
+        TranslatedQuery second = queryPlanCache.getTranslatedQuery(jpql);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.sql()).isEqualTo("SELECT * FROM members WHERE member_name = ?");
+        assertThat(second.entityClass()).isEqualTo(Member.class);
+        assertThat(queryPlanCache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 먼저 들어온 plan 부터 제거한다.")
+    void evictEldestPlan() {
+        // when
+        queryPlanCache.getTranslatedQuery("SELECT m FROM Member m");
+        queryPlanCache.getTranslatedQuery("SELECT m FROM Member m WHERE m.name = :name");
+        queryPlanCache.getTranslatedQuery("SELECT m FROM Member m WHERE m.name = ?1");
+
+        // then
+        assertThat(queryPlanCache.size()).isEqualTo(2);
+        assertThat(queryPlanCache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("페이징 모양마다 별도의 plan 을 만들고 LIMIT, OFFSET 을 파라미터로 붙인다.")
+    void pagedPlan() {
+        // given
+        String jpql = "SELECT m FROM Member m WHERE m.name = :name";
+
+        // when
+        TranslatedQuery paged = queryPlanCache.getTranslatedQuery(jpql, new PageShape(true, true, false));
+        TranslatedQuery pagedWithCount = queryPlanCache.getTranslatedQuery(jpql, new PageShape(true, false, true));
+
+        // then
+        assertThat(paged.sql()).isEqualTo("SELECT * FROM members WHERE member_name = ? LIMIT ? OFFSET ?");
+        assertThat(pagedWithCount.sql()).isEqualTo(
+                "SELECT members.*, COUNT(*) OVER() AS simplejpa_total_count FROM members WHERE member_name = ? LIMIT ?");
+        assertThat(pagedWithCount.countSql()).isEqualTo("SELECT COUNT(*) FROM members WHERE member_name = ?");
+        assertThat(queryPlanCache.getTranslatedQuery(jpql, new PageShape(true, true, false))).isSameAs(paged);
+    }
+
+    @Test
+    @DisplayName("OFFSET 만 지정해도 LIMIT 을 함께 붙여 LIMIT 없는 OFFSET 을 만들지 않는다.")
+    void offsetOnlyPlanHasLimit() {
+        // when
+        TranslatedQuery offsetOnly = queryPlanCache.getTranslatedQuery("SELECT m FROM Member m", new PageShape(false, true, false));
+
+        // then
+        assertThat(offsetOnly.sql()).isEqualTo("SELECT * FROM members LIMIT ? OFFSET ?");
+        assertThat(offsetOnly.pageShape().parameterCount()).isEqualTo(2);
+    }
+
+    @Entity
+    @Table(name = "members")
+    static class Member {
+        @Id
+        private Long id;
+
+        @Column(name = "member_name")
+        private String name;
+
+        public Member() {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.simplejpa.stat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsTest {
+    private static final String SELECT_SQL = "SELECT id, name FROM users WHERE id = ?";
+
+    @Test
+    @DisplayName("SQL 별 실행 횟수와 종류별 실행 횟수를 함께 집계한다.")
+    void recordStatement() {
+        // given
+        Statistics statistics = new Statistics(true);
+
+        // when
+        statistics.recordStatement(SELECT_SQL, statistics.startTimer());
+        statistics.recordStatement(SELECT_SQL, statistics.startTimer());
+        statistics.recordStatement("INSERT INTO users (id, name) VALUES (?, ?)", statistics.startTimer());
+
+        // then
+        assertThat(statistics.getStatementCount()).isEqualTo(3);
+        assertThat(statistics.getStatementCount(StatementType.SELECT)).isEqualTo(2);
+        assertThat(statistics.getStatementCount(StatementType.INSERT)).isEqualTo(1);
+        assertThat(statistics.getSqlStatistics(SELECT_SQL).getExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("꺼져 있는 동안에는 아무것도 기록하지 않는다.")
+    void disabled() {
+        // given
+        Statistics statistics = new Statistics(true);
+        statistics.setEnabled(false);
+
+        // when
+        statistics.recordStatement(SELECT_SQL, statistics.startTimer());
+        statistics.recordEntityLoad();
+        statistics.recordFirstLevelCacheHit();
+
+        // then
+        assertThat(statistics.getStatementCount()).isEqualTo(0);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        assertThat(statistics.getFirstLevelCacheHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("reset 하면 모든 카운터가 0 으로 돌아간다.")
+    void reset() {
+        // given
+        Statistics statistics = new Statistics(true);
+        statistics.recordStatement(SELECT_SQL, statistics.startTimer());
+        statistics.recordEntityInserts(3);
+        statistics.recordFlush(statistics.startTimer());
+
+        // when
+        statistics.reset();
+
+        // then
+        assertThat(statistics.getStatementCount()).isEqualTo(0);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(0);
+        assertThat(statistics.getFlushCount()).isEqualTo(0);
+        assertThat(statistics.getSqlStatistics()).isEmpty();
+    }
+}
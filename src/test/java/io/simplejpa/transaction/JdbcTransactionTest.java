@@ -0,0 +1,175 @@
+package io.simplejpa.transaction;
+
+import io.simplejpa.engine.connection.ConnectionConfiguration;
+import io.simplejpa.engine.connection.ConnectionPoolConfiguration;
+import io.simplejpa.engine.connection.ConnectionProvider;
+import io.simplejpa.engine.connection.DriverManagerConnectionProvider;
+import io.simplejpa.engine.connection.PooledConnectionProvider;
+import io.simplejpa.exception.JdbcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcTransactionTest {
+    private static final String URL = "jdbc:h2:mem:transaction-test;DB_CLOSE_DELAY=-1";
+
+    private FailingConnectionProvider physicalConnectionProvider;
+    private PooledConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        executeSql("DROP TABLE IF EXISTS transaction_items");
+        executeSql("CREATE TABLE transaction_items (id BIGINT PRIMARY KEY)");
+        physicalConnectionProvider = new FailingConnectionProvider(new DriverManagerConnectionProvider(
+                new ConnectionConfiguration(URL, "sa", "", "org.h2.Driver")
+        ));
+        connectionProvider = new PooledConnectionProvider(
+                physicalConnectionProvider,
+                ConnectionPoolConfiguration.builder()
+                        .minSize(1)
+                        .maxSize(1)
+                        .acquireTimeout(Duration.ofMillis(100))
+                        .build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.shutDown();
+    }
+
+    @Test
+    @DisplayName("commit 전 flush 가 실패하면 앞서 실행한 INSERT 까지 rollback 한다.")
+    void rollbackWhenFlushFails() throws SQLException {
+        // given
+        JdbcTransaction transaction = new JdbcTransaction(connectionProvider);
+        AtomicBoolean cleared = new AtomicBoolean();
+        transaction.setClearCallback(() -> cleared.set(true));
+        transaction.setFlushCallback(() -> {
+            try (Statement statement = transaction.getConnection().createStatement()) {
+                statement.executeUpdate("INSERT INTO transaction_items VALUES (1)");
+            } catch (SQLException e) {
+                throw new JdbcException("insert failed", e);
+            }
+            throw new JdbcException("second batch failed");
+        });
+        transaction.begin();
+
+        // when // then
+        assertThatThrownBy(transaction::commit)
+                .isInstanceOf(JdbcException.class)
+                .hasMessage("second batch failed");
+        assertThat(transaction.getStatus()).isEqualTo(TransactionStatus.ROLLED_BACK);
+        assertThat(cleared.get()).isTrue();
+        assertThat(connectionProvider.getActiveCount()).isZero();
+        assertThat(countRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("begin 중 autoCommit 설정이 실패하면 connection 을 pool 에 반납한다.")
+    void releaseConnectionWhenBeginFails() {
+        // given
+        JdbcTransaction transaction = new JdbcTransaction(connectionProvider);
+        physicalConnectionProvider.failSetAutoCommit = Boolean.FALSE;
+
+        // when // then
+        assertThatThrownBy(transaction::begin).isInstanceOf(JdbcException.class);
+        assertThat(transaction.getStatus()).isEqualTo(TransactionStatus.NOT_ACTIVE);
+        assertThat(connectionProvider.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 종료 후 connection 원복이 실패해도 pool 에 반납한다.")
+    void releaseConnectionWhenResetFails() {
+        // given
+        JdbcTransaction transaction = new JdbcTransaction(connectionProvider);
+        transaction.begin();
+        physicalConnectionProvider.failSetAutoCommit = Boolean.TRUE;
+
+        // when
+        transaction.commit();
+
+        // then
+        assertThat(transaction.getStatus()).isEqualTo(TransactionStatus.COMMITTED);
+        assertThat(connectionProvider.getActiveCount()).isZero();
+    }
+
+    private long countRows() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM transaction_items")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void executeSql(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // failSetAutoCommit 과 같은 값으로 setAutoCommit 을 호출하면 실패하는 connection 을 준다
+    private static class FailingConnectionProvider implements ConnectionProvider {
+        private final ConnectionProvider delegate;
+        private volatile Boolean failSetAutoCommit;
+
+        FailingConnectionProvider(ConnectionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = delegate.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("setAutoCommit") && args[0].equals(failSetAutoCommit)) {
+                            throw new SQLException("setAutoCommit failed");
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @Override
+        public void closeConnection(Connection connection) throws SQLException {
+            connection.close();
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return delegate.supportsAggressiveRelease();
+        }
+
+        @Override
+        public void shutDown() {
+            delegate.shutDown();
+        }
+
+        @Override
+        public void setCloseCallback(Consumer<Connection> callback) {
+            delegate.setCloseCallback(callback);
+        }
+    }
+}